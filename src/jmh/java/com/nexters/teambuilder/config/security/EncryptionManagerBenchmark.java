@@ -0,0 +1,96 @@
+package com.nexters.teambuilder.config.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.apache.commons.codec.binary.Base64;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 호출마다 key 와 Cipher 를 새로 만드는 기존 방식과 thread 별 Cipher 를 재사용하는 EncryptionManager 를 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EncryptionManagerBenchmark {
+    private static final String SECRET_KEY = "To climb steep hills requires slow pace at first";
+
+    private static final int BATCH_SIZE = 100;
+
+    private String plain;
+
+    private String encoded;
+
+    private List<String> plains;
+
+    @Setup
+    public void setUp() throws Exception {
+        plain = "originman@nexters.com";
+        encoded = EncryptionManager.encode(plain);
+        plains = IntStream.range(0, BATCH_SIZE)
+                .mapToObj(i -> "originman" + i + "@nexters.com")
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public String encodePerCallCipher() throws Exception {
+        return legacyEncode(plain);
+    }
+
+    @Benchmark
+    public String encode() throws Exception {
+        return EncryptionManager.encode(plain);
+    }
+
+    @Benchmark
+    public String decodePerCallCipher() throws Exception {
+        return legacyDecode(encoded);
+    }
+
+    @Benchmark
+    public String decode() throws Exception {
+        return EncryptionManager.decode(encoded);
+    }
+
+    @Benchmark
+    public List<String> encodeAll() throws Exception {
+        return EncryptionManager.encodeAll(plains);
+    }
+
+    private static String legacyEncode(String str) throws Exception {
+        byte[] keyData = SECRET_KEY.substring(0, 32).getBytes();
+        SecretKey secureKey = new SecretKeySpec(keyData, "AES");
+        Cipher c = Cipher.getInstance("AES/CBC/PKCS5Padding");
+        c.init(Cipher.ENCRYPT_MODE, secureKey, new IvParameterSpec(SECRET_KEY.substring(0, 16).getBytes()));
+
+        return new String(Base64.encodeBase64(c.doFinal(str.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    private static String legacyDecode(String str) throws Exception {
+        byte[] keyData = SECRET_KEY.substring(0, 32).getBytes();
+        SecretKey secureKey = new SecretKeySpec(keyData, "AES");
+        Cipher c = Cipher.getInstance("AES/CBC/PKCS5Padding");
+        c.init(Cipher.DECRYPT_MODE, secureKey, new IvParameterSpec(SECRET_KEY.substring(0, 16).getBytes()));
+
+        return new String(c.doFinal(Base64.decodeBase64(str.getBytes())), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,95 @@
+package com.nexters.teambuilder.config.security;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.ImmutableMap;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.joda.time.DateTime;
+
+/**
+ * token codec 별 발급/검증 비용과 Authorization header 크기를 비교한다.
+ * claims cache 를 거치지 않도록 codec 을 직접 호출한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenCodecBenchmark {
+    private static final String ISSUER = "team-builder";
+
+    @Param({JWTTokenService.LEGACY_CODEC, JWTTokenService.COMPACT_CODEC})
+    private String codecName;
+
+    private TokenCodec codec;
+
+    private Map<String, String> attributes;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        codec = JWTTokenService.COMPACT_CODEC.equals(codecName)
+                ? new CompactTokenCodec(ISSUER, DateTime.now()::toDate, 300, "secret")
+                : new LegacyTokenCodec(ISSUER, DateTime.now()::toDate, 300, "secret");
+        attributes = ImmutableMap.<String, String>builder()
+                .put("uuid", "8f0d5b5e-4a4f-4a47-9c7e-2f6f0e0f8a11")
+                .put("id", "originman")
+                .put("name", "kiwon")
+                .put("nextersNumber", "13")
+                .put("role", "ROLE_USER")
+                .put("position", "DEVELOPER")
+                .put("createdAt", "2019-07-20T15:00:00+09:00")
+                .build();
+        token = issue();
+    }
+
+    @Benchmark
+    public String issue() {
+        DateTime now = DateTime.now();
+        Claims claims = Jwts.claims()
+                .setIssuer(ISSUER)
+                .setIssuedAt(now.toDate())
+                .setExpiration(now.plusDays(1).toDate());
+        claims.putAll(attributes);
+        return codec.encode(claims);
+    }
+
+    @Benchmark
+    public Claims verify() {
+        return codec.decode(token);
+    }
+
+    /**
+     * 소요 시간이 아니라 결과의 headerBytes 로 Authorization header 크기를 보고한다.
+     * EVENTS counter 는 iteration 마다 합산되므로 측정 iteration 을 한 번만 실행한다.
+     */
+    @Benchmark
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1, time = 100, timeUnit = TimeUnit.MILLISECONDS)
+    public long header(HeaderSize headerSize) {
+        headerSize.headerBytes = ("Bearer " + token).length();
+        return headerSize.headerBytes;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeaderSize {
+        public long headerBytes;
+    }
+}
@@ -0,0 +1,77 @@
+package com.nexters.teambuilder.idea.service;
+
+import static com.nexters.teambuilder.idea.domain.Idea.Type.IDEA;
+import static com.nexters.teambuilder.tag.domain.Tag.Type.DEVELOPER;
+
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.nexters.teambuilder.idea.api.dto.IdeaResponse;
+import com.nexters.teambuilder.idea.domain.Idea;
+import com.nexters.teambuilder.session.domain.Session;
+import com.nexters.teambuilder.tag.domain.Tag;
+import com.nexters.teambuilder.user.domain.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 아이디어 목록 응답 조립 비용을 측정한다.
+ * ideaCount 를 늘려가며 실행하면 아이디어 수에 비례해 증가하는지 확인할 수 있다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdeaListBenchmark {
+    @Param({"1000", "5000", "10000"})
+    private int ideaCount;
+
+    @Param({"1000"})
+    private int favoriteCount;
+
+    private List<Idea> ideas;
+
+    private Set<Integer> favoriteIdeaIds;
+
+    @Setup
+    public void setUp() {
+        Session session = new Session(1, false, Collections.emptyList(), "https://logo/image/url", 3);
+        User author = new User("originman", "password1212", "kiwon",
+                13, User.Role.ROLE_USER, User.Position.DEVELOPER, "originman@nexters.com");
+        Set<Tag> tags = Collections.singleton(new Tag("ios 개발자", DEVELOPER));
+        Set<User> members = Collections.singleton(author);
+        ZonedDateTime now = ZonedDateTime.now();
+
+        ideas = IntStream.rangeClosed(1, ideaCount)
+                .mapToObj(ideaId -> new Idea(ideaId, session, "아이디어 " + ideaId, "내용", author,
+                        "https://file.url", false, IDEA, tags, 0, ideaId, now, now, members))
+                .collect(Collectors.toList());
+
+        favoriteIdeaIds = IntStream.rangeClosed(1, favoriteCount)
+                .map(i -> i * 7)
+                .boxed()
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    @Benchmark
+    public List<IdeaResponse> toIdeaResponses() {
+        return IdeaService.toIdeaResponses(ideas, favoriteIdeaIds);
+    }
+}
@@ -0,0 +1,70 @@
+package com.nexters.teambuilder.common.Service;
+
+import java.util.function.LongSupplier;
+
+import com.nexters.teambuilder.common.domain.SequenceRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 기수 번호, 아이디어 순번, 제명 번호처럼 "다음 번호" 가 필요한 곳에서 사용하는 번호 발급 서비스.
+ * 번호는 DB 의 단일 update 로 예약하므로 thread 와 노드에 관계없이 중복되지 않는다.
+ * 예약은 호출한 쪽의 transaction 에 참여하므로 connection 을 하나만 사용하고, 호출한 쪽이 rollback 되면 예약도 취소된다.
+ * 대신 sequence row lock 은 호출한 쪽의 transaction 이 끝날 때까지 유지된다.
+ * sequence 를 처음 만들 때만 중복 생성 실패가 호출한 쪽을 rollback 시키지 않도록 별도 transaction 을 사용한다.
+ */
+@Service
+public class SequenceService {
+    public static final String SESSION_NUMBER = "session-number";
+    public static final String DISMISS_NUMBER = "dismiss-number";
+
+    private final SequenceRepository sequenceRepository;
+
+    private final TransactionTemplate requiresNew;
+
+    public SequenceService(SequenceRepository sequenceRepository, PlatformTransactionManager transactionManager) {
+        this.sequenceRepository = sequenceRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public static String ideaOrderNumber(Integer sessionId) {
+        return "idea-order-number:" + sessionId;
+    }
+
+    @Transactional
+    public long next(String name, LongSupplier initialValue) {
+        return nextBlock(name, 1, initialValue);
+    }
+
+    /**
+     * 연속된 번호 size 개를 한 번에 예약한다.
+     * @param initialValue sequence 가 아직 없을 때 첫 번호. 기존 데이터의 최댓값 + 1 을 넘긴다
+     * @return 예약된 첫 번호. [반환값, 반환값 + size) 구간을 사용할 수 있다
+     */
+    @Transactional
+    public long nextBlock(String name, int size, LongSupplier initialValue) {
+        Long first = reserve(name, size);
+        if (first != null) {
+            return first;
+        }
+
+        try {
+            requiresNew.execute(status -> sequenceRepository.create(name, initialValue.getAsLong()));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 thread 나 노드가 먼저 만들었다. 만들어진 sequence 에서 예약한다.
+        }
+        return reserve(name, size);
+    }
+
+    private Long reserve(String name, int size) {
+        if (sequenceRepository.increase(name, size) == 0) {
+            return null;
+        }
+        return sequenceRepository.findNextValue(name).get() - size;
+    }
+}
@@ -0,0 +1,26 @@
+package com.nexters.teambuilder.common.domain;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이름 붙은 번호 발급기. nextValue 는 다음에 발급할 번호이며 SequenceRepository#increase 로만 증가시킨다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "number_sequence")
+public class Sequence {
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    private long nextValue;
+}
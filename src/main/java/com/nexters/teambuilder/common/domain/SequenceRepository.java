@@ -0,0 +1,28 @@
+package com.nexters.teambuilder.common.domain;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SequenceRepository extends JpaRepository<Sequence, String> {
+    /**
+     * 번호를 size 개 만큼 예약한다. row lock 이 걸리므로 여러 노드에서 동시에 호출해도 같은 번호가 발급되지 않는다.
+     * @return 예약에 성공하면 1, sequence 가 없으면 0
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update Sequence s set s.nextValue = s.nextValue + :size where s.name = :name")
+    int increase(@Param("name") String name, @Param("size") long size);
+
+    /**
+     * sequence 를 만든다. 이미 있으면 DataIntegrityViolationException 이 발생하며 기존 값은 바뀌지 않는다.
+     */
+    @Modifying
+    @Query(value = "insert into number_sequence (name, next_value) values (:name, :nextValue)", nativeQuery = true)
+    int create(@Param("name") String name, @Param("nextValue") long nextValue);
+
+    @Query("select s.nextValue from Sequence s where s.name = :name")
+    Optional<Long> findNextValue(@Param("name") String name);
+}
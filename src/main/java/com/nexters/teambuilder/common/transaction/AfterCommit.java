@@ -0,0 +1,27 @@
+package com.nexters.teambuilder.common.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class AfterCommit {
+    private AfterCommit() {
+    }
+
+    /**
+     * 진행중인 트랜잭션이 있으면 commit 이후에, 없으면 바로 실행한다.
+     * 캐시 무효화처럼 commit 전에 실행하면 다른 요청이 변경 전 데이터를 다시 읽어갈 수 있는 작업에 사용한다.
+     */
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
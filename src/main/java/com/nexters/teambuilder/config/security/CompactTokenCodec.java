@@ -0,0 +1,65 @@
+package com.nexters.teambuilder.config.security;
+
+import static io.jsonwebtoken.SignatureAlgorithm.HS256;
+import static org.apache.commons.lang3.StringUtils.substringBeforeLast;
+
+import java.security.Key;
+import java.util.Set;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.google.common.collect.ImmutableSet;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Clock;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+
+/**
+ * 인증에 필요한 claims 만 남기고 압축하지 않는 형식.
+ * HMAC key 를 미리 만들어 두어 발급/검증마다 secret 을 decode 하지 않는다.
+ */
+class CompactTokenCodec implements TokenCodec {
+    static final Set<String> CLAIM_NAMES =
+            ImmutableSet.of(Claims.ISSUER, Claims.ISSUED_AT, Claims.EXPIRATION, "uuid", "role");
+
+    private static final String DOT = ".";
+
+    private final Key signingKey;
+    private final JwtParser parser;
+    private final JwtParser untrustedParser;
+
+    CompactTokenCodec(final String issuer, final Clock clock, final int clockSkewSec, final String secret) {
+        this.signingKey = new SecretKeySpec(secret.getBytes(), HS256.getJcaName());
+        this.untrustedParser = Jwts
+                .parser()
+                .requireIssuer(issuer)
+                .setClock(clock)
+                .setAllowedClockSkewSeconds(clockSkewSec);
+        this.parser = Jwts
+                .parser()
+                .requireIssuer(issuer)
+                .setClock(clock)
+                .setAllowedClockSkewSeconds(clockSkewSec)
+                .setSigningKey(signingKey);
+    }
+
+    @Override
+    public String encode(final Claims claims) {
+        claims.keySet().retainAll(CLAIM_NAMES);
+        return Jwts
+                .builder()
+                .setClaims(claims)
+                .signWith(HS256, signingKey)
+                .compact();
+    }
+
+    @Override
+    public Claims decode(final String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    @Override
+    public Claims decodeUntrusted(final String token) {
+        final String withoutSignature = substringBeforeLast(token, DOT) + DOT;
+        return untrustedParser.parseClaimsJwt(withoutSignature).getBody();
+    }
+}
@@ -1,8 +1,12 @@
 package com.nexters.teambuilder.config.security;
 
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
@@ -17,31 +21,77 @@ public class EncryptionManager {
 
     private final static String secretKey   = "To climb steep hills requires slow pace at first";
 
+    private final static String TRANSFORMATION = "AES/CBC/PKCS5Padding";
 
-    //암호화
-    public static String encode(String str) throws java.io.UnsupportedEncodingException, NoSuchAlgorithmException, NoSuchPaddingException, InvalidKeyException, InvalidAlgorithmParameterException, IllegalBlockSizeException, BadPaddingException{
-        byte[] keyData = secretKey.substring(0,32).getBytes();
+    private final static SecretKey SECURE_KEY =
+            new SecretKeySpec(secretKey.substring(0, 32).getBytes(StandardCharsets.UTF_8), "AES");
 
-        SecretKey secureKey = new SecretKeySpec(keyData, "AES");
+    private final static IvParameterSpec IV =
+            new IvParameterSpec(secretKey.substring(0, 16).getBytes(StandardCharsets.UTF_8));
 
-        Cipher c = Cipher.getInstance("AES/CBC/PKCS5Padding");
-        c.init(Cipher.ENCRYPT_MODE, secureKey, new IvParameterSpec(secretKey.substring(0,16).getBytes()));
+    // Cipher 는 thread-safe 하지 않으므로 thread 마다 초기화된 것을 재사용한다. doFinal 후에는 init 직후 상태로 돌아간다.
+    private final static ThreadLocal<Cipher> ENCRYPTOR = ThreadLocal.withInitial(() -> newCipher(Cipher.ENCRYPT_MODE));
 
-        byte[] encrypted = c.doFinal(str.getBytes("UTF-8"));
-        String enStr = new String(Base64.encodeBase64(encrypted));
+    private final static ThreadLocal<Cipher> DECRYPTOR = ThreadLocal.withInitial(() -> newCipher(Cipher.DECRYPT_MODE));
 
-        return enStr;
+    //암호화
+    public static String encode(String str) throws java.io.UnsupportedEncodingException, NoSuchAlgorithmException, NoSuchPaddingException, InvalidKeyException, InvalidAlgorithmParameterException, IllegalBlockSizeException, BadPaddingException{
+        return encode(ENCRYPTOR.get(), str);
     }
 
     //복호화
     public static String decode(String str) throws java.io.UnsupportedEncodingException, NoSuchAlgorithmException, NoSuchPaddingException, InvalidKeyException, InvalidAlgorithmParameterException, IllegalBlockSizeException, BadPaddingException{
-        byte[] keyData = secretKey.substring(0,32).getBytes();
-        SecretKey secureKey = new SecretKeySpec(keyData, "AES");
-        Cipher c = Cipher.getInstance("AES/CBC/PKCS5Padding");
-        c.init(Cipher.DECRYPT_MODE, secureKey, new IvParameterSpec(secretKey.substring(0,16).getBytes("UTF-8")));
+        return decode(DECRYPTOR.get(), str);
+    }
+
+    //일괄 암호화
+    public static List<String> encodeAll(List<String> strs) throws IllegalBlockSizeException, BadPaddingException {
+        Cipher c = ENCRYPTOR.get();
+        List<String> encoded = new ArrayList<>(strs.size());
+        for (String str : strs) {
+            encoded.add(encode(c, str));
+        }
+        return encoded;
+    }
+
+    //일괄 복호화
+    public static List<String> decodeAll(List<String> strs) throws IllegalBlockSizeException, BadPaddingException {
+        Cipher c = DECRYPTOR.get();
+        List<String> decoded = new ArrayList<>(strs.size());
+        for (String str : strs) {
+            decoded.add(decode(c, str));
+        }
+        return decoded;
+    }
 
-        byte[] byteStr = Base64.decodeBase64(str.getBytes());
+    private static String encode(Cipher c, String str) throws IllegalBlockSizeException, BadPaddingException {
+        try {
+            byte[] encrypted = c.doFinal(str.getBytes(StandardCharsets.UTF_8));
+            return new String(Base64.encodeBase64(encrypted), StandardCharsets.US_ASCII);
+        } catch (IllegalBlockSizeException | BadPaddingException | RuntimeException e) {
+            ENCRYPTOR.remove();
+            throw e;
+        }
+    }
+
+    private static String decode(Cipher c, String str) throws IllegalBlockSizeException, BadPaddingException {
+        try {
+            byte[] byteStr = Base64.decodeBase64(str.getBytes(StandardCharsets.US_ASCII));
+            return new String(c.doFinal(byteStr), StandardCharsets.UTF_8);
+        } catch (IllegalBlockSizeException | BadPaddingException | RuntimeException e) {
+            // 실패한 cipher 의 상태를 믿을 수 없으므로 다음 호출에서 새로 만든다.
+            DECRYPTOR.remove();
+            throw e;
+        }
+    }
 
-        return new String(c.doFinal(byteStr),"UTF-8");
+    private static Cipher newCipher(int mode) {
+        try {
+            Cipher c = Cipher.getInstance(TRANSFORMATION);
+            c.init(mode, SECURE_KEY, IV);
+            return c;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("cipher 를 초기화할 수 없습니다.", e);
+        }
     }
 }
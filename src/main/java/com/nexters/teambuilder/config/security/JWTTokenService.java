@@ -1,50 +1,73 @@
 package com.nexters.teambuilder.config.security;
 
-import static io.jsonwebtoken.SignatureAlgorithm.HS256;
 import static java.util.Objects.requireNonNull;
-import static org.apache.commons.lang3.StringUtils.substringBeforeLast;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import com.google.common.base.Supplier;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.Hashing;
 import com.nexters.teambuilder.config.date.DateService;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Clock;
 import io.jsonwebtoken.JwtException;
-import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.impl.compression.GzipCompressionCodec;
 import org.joda.time.DateTime;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.util.Base64Utils;
 
 
 @Service
 public class JWTTokenService implements Clock, TokenService {
-    private static final String DOT = ".";
-    private static final GzipCompressionCodec COMPRESSION_CODEC = new GzipCompressionCodec();
+    static final String LEGACY_CODEC = "legacy";
+    static final String COMPACT_CODEC = "compact";
 
     DateService dates;
     String issuer;
     int accessTokenExpirationSec;
     int clockSkewSec;
-    String secretKey;
+    TokenCodec codec;
+
+    /**
+     * 검증된 token 의 claims. key 는 token 의 SHA-256 digest.
+     * 서명 검증과 압축 해제를 반복하지 않기 위해 token 의 exp - clock skew 시점까지만 사용한다.
+     */
+    Cache<String, VerifiedClaims> verifiedClaims;
 
     JWTTokenService(final DateService dates,
                     @Value("${jwt.issuer:octoperf}") final String issuer,
                     @Value("${jwt.expiration-sec:86400}") final int accessTokeExpirationSec,
-                    @Value("${jwt.expiration-sec:604800}") final int refreshTokenexpirationSec,
                     @Value("${jwt.clock-skew-sec:300}") final int clockSkewSec,
-                    @Value("${jwt.secret:secret}") final String secret) {
+                    @Value("${jwt.secret:secret}") final String secret,
+                    @Value("${jwt.claims-cache.max-size:10000}") final long claimsCacheMaxSize,
+                    @Value("${jwt.claims-cache.max-ttl-sec:600}") final long claimsCacheMaxTtlSec,
+                    @Value("${jwt.codec:legacy}") final String codec) {
         super();
         this.dates = requireNonNull(dates);
         this.issuer = requireNonNull(issuer);
-        this.accessTokenExpirationSec = requireNonNull(accessTokenExpirationSec);
+        this.accessTokenExpirationSec = accessTokeExpirationSec;
         this.clockSkewSec = requireNonNull(clockSkewSec);
-        this.secretKey = Base64Utils.encodeToString(requireNonNull(secret).getBytes());
+        this.codec = newCodec(requireNonNull(codec), requireNonNull(secret));
+        this.verifiedClaims = CacheBuilder.newBuilder()
+                .maximumSize(claimsCacheMaxSize)
+                .expireAfterWrite(claimsCacheMaxTtlSec, TimeUnit.SECONDS)
+                .build();
+    }
+
+    private TokenCodec newCodec(final String codec, final String secret) {
+        switch (codec) {
+            case LEGACY_CODEC:
+                return new LegacyTokenCodec(issuer, this, clockSkewSec, secret);
+            case COMPACT_CODEC:
+                return new CompactTokenCodec(issuer, this, clockSkewSec, secret);
+            default:
+                throw new IllegalArgumentException("지원하지 않는 jwt.codec 입니다: " + codec);
+        }
     }
 
     @Override
@@ -70,36 +93,39 @@ public class JWTTokenService implements Clock, TokenService {
         }
         claims.putAll(attributes);
 
-        return Jwts
-                .builder()
-                .setClaims(claims)
-                .signWith(HS256, secretKey)
-                .compressWith(COMPRESSION_CODEC)
-                .compact();
+        return codec.encode(claims);
     }
 
 
     @Override
     public Map<String, String> verify(final String token) {
-        final JwtParser parser = Jwts
-                .parser()
-                .requireIssuer(issuer)
-                .setClock(this)
-                .setAllowedClockSkewSeconds(clockSkewSec)
-                .setSigningKey(secretKey);
-        return parseClaims(() -> parser.parseClaimsJws(token).getBody());
+        final String digest = Hashing.sha256().hashString(token, StandardCharsets.UTF_8).toString();
+        final long now = dates.now().getMillis();
+
+        final VerifiedClaims cached = verifiedClaims.getIfPresent(digest);
+        if (cached != null && now < cached.validUntil) {
+            return cached.claims;
+        }
+
+        final Map<String, String> claims = parseClaims(() -> codec.decode(token));
+        final long validUntil = validUntil(claims);
+        if (!claims.isEmpty() && now < validUntil) {
+            verifiedClaims.put(digest, new VerifiedClaims(claims, validUntil));
+        }
+        return claims;
     }
 
     @Override
     public Map<String, String> untrusted(final String token) {
-        final JwtParser parser = Jwts
-                .parser()
-                .requireIssuer(issuer)
-                .setClock(this)
-                .setAllowedClockSkewSeconds(clockSkewSec);
-
-        final String withoutSignature = substringBeforeLast(token, DOT) + DOT;
-        return parseClaims(() -> parser.parseClaimsJwt(withoutSignature).getBody());
+        return parseClaims(() -> codec.decodeUntrusted(token));
+    }
+
+    private long validUntil(final Map<String, String> claims) {
+        final String expiration = claims.get(Claims.EXPIRATION);
+        if (expiration == null) {
+            return Long.MAX_VALUE;
+        }
+        return TimeUnit.SECONDS.toMillis(Long.parseLong(expiration) - clockSkewSec);
     }
 
     private static Map<String, String> parseClaims(final Supplier<Claims> toClaims) {
@@ -120,4 +146,14 @@ public class JWTTokenService implements Clock, TokenService {
         final DateTime now = dates.now();
         return now.toDate();
     }
+
+    static final class VerifiedClaims {
+        final Map<String, String> claims;
+        final long validUntil;
+
+        VerifiedClaims(final Map<String, String> claims, final long validUntil) {
+            this.claims = claims;
+            this.validUntil = validUntil;
+        }
+    }
 }
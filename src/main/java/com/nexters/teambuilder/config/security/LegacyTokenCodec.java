@@ -0,0 +1,59 @@
+package com.nexters.teambuilder.config.security;
+
+import static io.jsonwebtoken.SignatureAlgorithm.HS256;
+import static org.apache.commons.lang3.StringUtils.substringBeforeLast;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Clock;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.impl.compression.GzipCompressionCodec;
+import org.springframework.util.Base64Utils;
+
+/**
+ * 기존 형식. 모든 claims 를 gzip 으로 압축하고 base64 secret 으로 서명한다.
+ */
+class LegacyTokenCodec implements TokenCodec {
+    private static final String DOT = ".";
+    private static final GzipCompressionCodec COMPRESSION_CODEC = new GzipCompressionCodec();
+
+    private final String secretKey;
+    private final JwtParser parser;
+    private final JwtParser untrustedParser;
+
+    LegacyTokenCodec(final String issuer, final Clock clock, final int clockSkewSec, final String secret) {
+        this.secretKey = Base64Utils.encodeToString(secret.getBytes());
+        this.untrustedParser = Jwts
+                .parser()
+                .requireIssuer(issuer)
+                .setClock(clock)
+                .setAllowedClockSkewSeconds(clockSkewSec);
+        this.parser = Jwts
+                .parser()
+                .requireIssuer(issuer)
+                .setClock(clock)
+                .setAllowedClockSkewSeconds(clockSkewSec)
+                .setSigningKey(secretKey);
+    }
+
+    @Override
+    public String encode(final Claims claims) {
+        return Jwts
+                .builder()
+                .setClaims(claims)
+                .signWith(HS256, secretKey)
+                .compressWith(COMPRESSION_CODEC)
+                .compact();
+    }
+
+    @Override
+    public Claims decode(final String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    @Override
+    public Claims decodeUntrusted(final String token) {
+        final String withoutSignature = substringBeforeLast(token, DOT) + DOT;
+        return untrustedParser.parseClaimsJwt(withoutSignature).getBody();
+    }
+}
@@ -1,15 +0,0 @@
-package com.nexters.teambuilder.config.security;
-
-import java.io.IOException;
-import javax.servlet.http.HttpServletRequest;
-import javax.servlet.http.HttpServletResponse;
-
-import org.springframework.security.web.RedirectStrategy;
-
-public class NoRedirectStrategy implements RedirectStrategy {
-
-    @Override
-    public void sendRedirect(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse, String s) throws IOException {
-
-    }
-}
@@ -0,0 +1,80 @@
+package com.nexters.teambuilder.config.security;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * BCrypt 연산을 servlet thread 가 아닌 전용 thread pool 에서 실행한다.
+ * 대기열이 가득 차면 RejectedExecutionException 을 던져 로그인 폭주가 다른 요청까지 막지 않게 한다.
+ * 대기열 길이와 처리량은 "password.hasher" 이름의 executor metric 으로 노출된다.
+ * 일괄 가입처럼 많은 비밀번호를 한 번에 처리할 때는 로그인 대기열을 채우지 않도록 별도의 fork-join pool 을 사용한다.
+ */
+@Component
+public class PasswordHasher implements MeterBinder {
+    static final String EXECUTOR_NAME = "password.hasher";
+    static final String BULK_EXECUTOR_NAME = "password.hasher.bulk";
+
+    private final PasswordEncoder encoder = new BCryptPasswordEncoder();
+
+    private final ThreadPoolExecutor executor;
+
+    private final ForkJoinPool bulkPool;
+
+    public PasswordHasher(@Value("${auth.password-hasher.pool-size:0}") final int poolSize,
+                          @Value("${auth.password-hasher.queue-capacity:64}") final int queueCapacity,
+                          @Value("${auth.password-hasher.bulk-parallelism:0}") final int bulkParallelism) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new ThreadFactoryBuilder().setNameFormat("password-hasher-%d").setDaemon(true).build(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.bulkPool = new ForkJoinPool(bulkParallelism > 0 ? bulkParallelism : threads);
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) {
+        return CompletableFuture.supplyAsync(() -> encoder.encode(rawPassword), executor);
+    }
+
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return CompletableFuture.supplyAsync(() -> encoder.matches(rawPassword, encodedPassword), executor);
+    }
+
+    /**
+     * 비밀번호 여러 개를 bulk pool 에서 병렬로 암호화한다. 모두 끝날 때까지 기다린다.
+     * @return rawPasswords 와 같은 순서의 암호화된 비밀번호
+     */
+    public List<String> encodeAll(List<String> rawPasswords) {
+        return bulkPool.submit(() -> rawPasswords.parallelStream()
+                .map(encoder::encode)
+                .collect(Collectors.toList()))
+                .join();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new ExecutorServiceMetrics(executor, EXECUTOR_NAME, Tags.empty()).bindTo(registry);
+        new ExecutorServiceMetrics(bulkPool, BULK_EXECUTOR_NAME, Tags.empty()).bindTo(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        bulkPool.shutdown();
+    }
+}
@@ -0,0 +1,127 @@
+package com.nexters.teambuilder.config.security;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.nexters.teambuilder.user.domain.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증된 사용자를 uuid 로 잠시 보관해 요청마다 사용자를 조회하지 않도록 한다.
+ * 엔티티 대신 변경할 수 없는 snapshot 을 보관하고 요청마다 새 User 를 만들어 돌려주므로
+ * 요청끼리 같은 객체를 공유하지 않는다. 돌려주는 User 는 비밀번호가 없고 최대 만료 시간만큼 오래된 값일 수 있으니
+ * 사용자를 변경해 저장하는 곳에서는 uuid 로 엔티티를 다시 조회해야 한다.
+ * 사용자 정보가 바뀌는 곳에서는 반드시 invalidate 해야 한다.
+ * hit/miss 통계는 "principal" 이름의 cache metric 으로 노출된다.
+ */
+@Component
+public class PrincipalCache implements MeterBinder {
+    static final String CACHE_NAME = "principal";
+
+    private final Cache<String, Snapshot> cache;
+
+    public PrincipalCache(@Value("${auth.principal-cache.max-size:10000}") final long maxSize,
+                          @Value("${auth.principal-cache.expire-after-write-sec:30}") final long expireAfterWriteSec) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWriteSec, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+    }
+
+    public Optional<User> get(String uuid, Function<String, Optional<User>> loader) {
+        Snapshot cached = cache.getIfPresent(uuid);
+        if (cached != null) {
+            return Optional.of(cached.toUser());
+        }
+
+        Optional<Snapshot> loaded = loader.apply(uuid).map(Snapshot::new);
+        loaded.ifPresent(snapshot -> cache.put(uuid, snapshot));
+        return loaded.map(Snapshot::toUser);
+    }
+
+    public void invalidate(String uuid) {
+        cache.invalidate(uuid);
+    }
+
+    public void invalidateAll(Collection<String> uuids) {
+        cache.invalidateAll(uuids);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        GuavaCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    private static final class Snapshot {
+        private final String uuid;
+        private final String id;
+        private final String name;
+        private final Integer nextersNumber;
+        private final String email;
+        private final boolean activated;
+        private final User.Role role;
+        private final User.Position position;
+        private final ZonedDateTime createdAt;
+        private final int voteCount;
+        private final boolean voted;
+        private final boolean submitIdea;
+        private final boolean hasTeam;
+        private final boolean dissmissed;
+
+        private Snapshot(User user) {
+            this.uuid = user.getUuid();
+            this.id = user.getId();
+            this.name = user.getName();
+            this.nextersNumber = user.getNextersNumber();
+            this.email = user.getEmail();
+            this.activated = user.isActivated();
+            this.role = user.getRole();
+            this.position = user.getPosition();
+            this.createdAt = user.getCreatedAt();
+            this.voteCount = user.getVoteCount();
+            this.voted = user.isVoted();
+            this.submitIdea = user.isSubmitIdea();
+            this.hasTeam = user.isHasTeam();
+            this.dissmissed = user.isDissmissed();
+        }
+
+        private User toUser() {
+            User user = User.builder()
+                    .id(id)
+                    .name(name)
+                    .nextersNumber(nextersNumber)
+                    .role(role)
+                    .position(position)
+                    .email(email)
+                    .build();
+            user.setUuid(uuid);
+            user.setActivated(activated);
+            user.setCreatedAt(createdAt);
+            user.setVoteCount(voteCount);
+            user.setVoted(voted);
+            user.setSubmitIdea(submitIdea);
+            user.setHasTeam(hasTeam);
+            user.setDissmissed(dissmissed);
+            return user;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.nexters.teambuilder.config.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.hash.Hashing;
+import com.nexters.teambuilder.config.date.DateService;
+import com.nexters.teambuilder.user.domain.RefreshToken;
+import com.nexters.teambuilder.user.domain.RefreshTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * refresh token 저장소. token 원문 대신 SHA-256 digest 만 DB 에 보관하므로
+ * 재시작 후에도 유지되고 여러 노드에서 함께 사용할 수 있다.
+ * refresh token 은 한 번만 사용할 수 있고, 사용하면 새 refresh token 으로 교체된다.
+ */
+@Component
+public class RefreshTokenStore {
+    private static final int TOKEN_BYTES = 32;
+
+    private final SecureRandom random = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    private final DateService dates;
+
+    private final long expirationMillis;
+
+    public RefreshTokenStore(final RefreshTokenRepository refreshTokenRepository,
+                             final DateService dates,
+                             @Value("${jwt.refresh-expiration-sec:604800}") final int expirationSec) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.dates = dates;
+        this.expirationMillis = TimeUnit.SECONDS.toMillis(expirationSec);
+    }
+
+    public String issue(String uuid) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(new RefreshToken(digest(token), uuid, now() + expirationMillis));
+        return token;
+    }
+
+    /**
+     * refresh token 을 소모하고 주인의 uuid 를 돌려준다.
+     * 이미 사용했거나 만료된 token 이면 empty. 동시에 같은 token 을 사용하면 삭제에 성공한 한 요청만 uuid 를 받는다.
+     */
+    public Optional<String> consume(String token) {
+        String digest = digest(token);
+        Optional<RefreshToken> entry = refreshTokenRepository.findById(digest);
+        if (!entry.isPresent() || refreshTokenRepository.deleteByDigest(digest) == 0
+                || entry.get().getExpiresAt() <= now()) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.get().getUuid());
+    }
+
+    public void revokeAll(String uuid) {
+        refreshTokenRepository.deleteByUuid(uuid);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-purge-interval-ms:600000}")
+    public void purgeExpired() {
+        refreshTokenRepository.deleteExpired(now());
+    }
+
+    long size() {
+        return refreshTokenRepository.count();
+    }
+
+    private long now() {
+        return dates.now().getMillis();
+    }
+
+    private static String digest(String token) {
+        return Hashing.sha256().hashString(token, StandardCharsets.UTF_8).toString();
+    }
+}
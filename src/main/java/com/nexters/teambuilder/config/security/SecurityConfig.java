@@ -4,10 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static org.springframework.http.HttpStatus.FORBIDDEN;
 import static org.springframework.security.config.http.SessionCreationPolicy.STATELESS;
 
+import com.nexters.teambuilder.user.domain.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -15,7 +16,6 @@ import org.springframework.security.config.annotation.web.configuration.WebSecur
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.authentication.AnonymousAuthenticationFilter;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint;
-import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 import org.springframework.security.web.util.matcher.OrRequestMatcher;
 import org.springframework.security.web.util.matcher.RegexRequestMatcher;
 import org.springframework.security.web.util.matcher.RequestMatcher;
@@ -28,16 +28,23 @@ class SecurityConfig extends WebSecurityConfigurerAdapter {
             new RegexRequestMatcher(".*apis.*",null)
     );
 
-    TokenAuthenticationProvider provider;
+    TokenService tokenService;
+    TokenRevocationList revocationList;
+    PrincipalCache principalCache;
+    UserRepository userRepository;
+    MeterRegistry meterRegistry;
 
-    SecurityConfig(final TokenAuthenticationProvider provider) {
+    SecurityConfig(final TokenService tokenService,
+                   final TokenRevocationList revocationList,
+                   final PrincipalCache principalCache,
+                   final UserRepository userRepository,
+                   final MeterRegistry meterRegistry) {
         super();
-        this.provider = requireNonNull(provider);
-    }
-
-    @Override
-    protected void configure(final AuthenticationManagerBuilder auth) {
-        auth.authenticationProvider(provider);
+        this.tokenService = requireNonNull(tokenService);
+        this.revocationList = requireNonNull(revocationList);
+        this.principalCache = requireNonNull(principalCache);
+        this.userRepository = requireNonNull(userRepository);
+        this.meterRegistry = requireNonNull(meterRegistry);
     }
 
 
@@ -50,7 +57,6 @@ class SecurityConfig extends WebSecurityConfigurerAdapter {
                 .exceptionHandling()
                 .defaultAuthenticationEntryPointFor(forbiddenEntryPoint(), PROTECTED_URLS)
                 .and()
-                .authenticationProvider(provider)
                 .addFilterBefore(restAuthenticationFilter(), AnonymousAuthenticationFilter.class)
                 .authorizeRequests()
                 .requestMatchers(PROTECTED_URLS).authenticated()
@@ -65,18 +71,9 @@ class SecurityConfig extends WebSecurityConfigurerAdapter {
     }
 
     @Bean
-    TokenAuthenticationFilter restAuthenticationFilter() throws Exception {
-        final TokenAuthenticationFilter filter = new TokenAuthenticationFilter(PROTECTED_URLS);
-        filter.setAuthenticationManager(authenticationManager());
-        filter.setAuthenticationSuccessHandler(successHandler());
-        return filter;
-    }
-
-    @Bean
-    SimpleUrlAuthenticationSuccessHandler successHandler() {
-        final SimpleUrlAuthenticationSuccessHandler successHandler = new SimpleUrlAuthenticationSuccessHandler();
-        successHandler.setRedirectStrategy(new NoRedirectStrategy());
-        return successHandler;
+    TokenAuthenticationFilter restAuthenticationFilter() {
+        return new TokenAuthenticationFilter(PROTECTED_URLS, tokenService, revocationList, principalCache,
+                userRepository, meterRegistry);
     }
 
 
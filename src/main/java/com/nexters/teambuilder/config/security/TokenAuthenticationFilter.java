@@ -1,58 +1,130 @@
 package com.nexters.teambuilder.config.security;
 
-import static java.util.Optional.ofNullable;
-import static org.apache.commons.lang3.StringUtils.removeStart;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
-import org.springframework.security.authentication.BadCredentialsException;
+import com.nexters.teambuilder.user.domain.User;
+import com.nexters.teambuilder.user.domain.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.web.authentication.AbstractAuthenticationProcessingFilter;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
 
-public class TokenAuthenticationFilter extends AbstractAuthenticationProcessingFilter {
+/**
+ * 보호된 URL 의 요청에서 token 을 꺼내 사용자를 인증한다.
+ * token 추출(parse), 검증과 폐기 확인(verify), 사용자 조회(load) 단계별 소요 시간은
+ * "auth.filter" timer 의 stage tag 로 기록된다.
+ */
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+    static final String TIMER_NAME = "auth.filter";
 
     private static final String BEARER = "Bearer";
 
-    public TokenAuthenticationFilter(String defaultFilterProcessesUrl) {
-        super(defaultFilterProcessesUrl);
-    }
+    private final RequestMatcher requiresAuthenticationRequestMatcher;
+
+    private final TokenService tokenService;
+
+    private final TokenRevocationList revocationList;
+
+    private final PrincipalCache principalCache;
+
+    private final UserRepository userRepository;
 
-    public TokenAuthenticationFilter(RequestMatcher requiresAuthenticationRequestMatcher) {
-        super(requiresAuthenticationRequestMatcher);
+    private final Timer parseTimer;
+
+    private final Timer verifyTimer;
+
+    private final Timer loadTimer;
+
+    public TokenAuthenticationFilter(final RequestMatcher requiresAuthenticationRequestMatcher,
+                                     final TokenService tokenService,
+                                     final TokenRevocationList revocationList,
+                                     final PrincipalCache principalCache,
+                                     final UserRepository userRepository,
+                                     final MeterRegistry registry) {
+        this.requiresAuthenticationRequestMatcher = requiresAuthenticationRequestMatcher;
+        this.tokenService = tokenService;
+        this.revocationList = revocationList;
+        this.principalCache = principalCache;
+        this.userRepository = userRepository;
+        this.parseTimer = stageTimer(registry, "parse");
+        this.verifyTimer = stageTimer(registry, "verify");
+        this.loadTimer = stageTimer(registry, "load");
     }
 
     @Override
-    public Authentication attemptAuthentication(
-            final HttpServletRequest request,
-            final HttpServletResponse response) {
-        System.out.println("attemptAuthentication");
-        final String param = ofNullable(request.getHeader(AUTHORIZATION))
-                .orElse(request.getParameter("t"));
-
-        final String token = ofNullable(param)
-                .map(value -> removeStart(value, BEARER))
-                .map(String::trim)
-                .orElseThrow(() -> new BadCredentialsException("Missing Authentication Token"));
-        final Authentication auth = new UsernamePasswordAuthenticationToken(token, token);
-
-        return getAuthenticationManager().authenticate(auth);
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return !requiresAuthenticationRequestMatcher.matches(request);
     }
 
     @Override
-    protected void successfulAuthentication(
-            final HttpServletRequest request,
-            final HttpServletResponse response,
-            final FilterChain chain,
-            final Authentication authResult) throws IOException, ServletException {
-        super.successfulAuthentication(request, response, chain, authResult);
+    protected void doFilterInternal(final HttpServletRequest request,
+                                    final HttpServletResponse response,
+                                    final FilterChain chain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        final String token = extractToken(request);
+        long parsed = System.nanoTime();
+        parseTimer.record(parsed - start, TimeUnit.NANOSECONDS);
+        if (token == null) {
+            unauthorized(response);
+            return;
+        }
+
+        final Map<String, String> claims = tokenService.verify(token);
+        final String uuid = claims.get("uuid");
+        final boolean valid = uuid != null && !revocationList.isRevoked(token, claims);
+        long verified = System.nanoTime();
+        verifyTimer.record(verified - parsed, TimeUnit.NANOSECONDS);
+        if (!valid) {
+            unauthorized(response);
+            return;
+        }
 
+        final Optional<User> user = principalCache.get(uuid, userRepository::findUserByUuid);
+        loadTimer.record(System.nanoTime() - verified, TimeUnit.NANOSECONDS);
+        if (!user.isPresent()) {
+            unauthorized(response);
+            return;
+        }
+
+        final User principal = user.get();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, token, principal.getAuthorities()));
         chain.doFilter(request, response);
     }
+
+    private static String extractToken(final HttpServletRequest request) {
+        String value = request.getHeader(AUTHORIZATION);
+        if (value == null) {
+            value = request.getParameter("t");
+        }
+        if (value == null) {
+            return null;
+        }
+
+        final String token = value.startsWith(BEARER) ? value.substring(BEARER.length()).trim() : value.trim();
+        return token.isEmpty() ? null : token;
+    }
+
+    private static void unauthorized(final HttpServletResponse response) throws IOException {
+        SecurityContextHolder.clearContext();
+        response.sendError(HttpStatus.UNAUTHORIZED.value(), HttpStatus.UNAUTHORIZED.getReasonPhrase());
+    }
+
+    private static Timer stageTimer(final MeterRegistry registry, final String stage) {
+        return Timer.builder(TIMER_NAME)
+                .tag("stage", stage)
+                .register(registry);
+    }
 }
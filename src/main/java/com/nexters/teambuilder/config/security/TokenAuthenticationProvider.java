@@ -1,40 +0,0 @@
-package com.nexters.teambuilder.config.security;
-
-import java.util.Optional;
-
-import com.nexters.teambuilder.user.domain.UserRepository;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.authentication.dao.AbstractUserDetailsAuthenticationProvider;
-import org.springframework.security.core.AuthenticationException;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.stereotype.Component;
-
-@Component
-public class TokenAuthenticationProvider extends AbstractUserDetailsAuthenticationProvider {
-
-    @Autowired
-    private UserRepository userRepository;
-
-    @Autowired
-    private TokenService tokenService;
-
-    @Override
-    protected void additionalAuthenticationChecks(UserDetails userDetails, UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken) throws AuthenticationException {
-    }
-
-    @Override
-    protected UserDetails retrieveUser(String s, UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken) throws AuthenticationException {
-        final Object token = usernamePasswordAuthenticationToken.getCredentials();
-
-        return Optional
-                .ofNullable(token)
-                .map(String::valueOf)
-                .map(tokenService::verify)
-                .map(tokenMap -> tokenMap.get("uuid"))
-                .flatMap(userRepository::findUserByUuid)
-                .orElseThrow(() -> new UsernameNotFoundException("Cannot find user with authentication token=" + token));
-    }
-
-}
@@ -0,0 +1,22 @@
+package com.nexters.teambuilder.config.security;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * claims 와 token 문자열 사이의 변환 방식.
+ * 두 codec 모두 같은 HMAC key 로 서명하므로 어느 codec 으로 발급된 token 이든 검증할 수 있다.
+ */
+public interface TokenCodec {
+    String encode(Claims claims);
+
+    /**
+     * 서명을 검증하고 claims 를 꺼낸다.
+     * @throws io.jsonwebtoken.JwtException 서명이 틀리거나 만료된 경우
+     */
+    Claims decode(String token);
+
+    /**
+     * 서명 없이 claims 만 꺼낸다.
+     */
+    Claims decodeUntrusted(String token);
+}
@@ -0,0 +1,202 @@
+package com.nexters.teambuilder.config.security;
+
+import static org.apache.commons.lang3.StringUtils.substringAfterLast;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.nexters.teambuilder.config.date.DateService;
+import com.nexters.teambuilder.user.domain.TokenRevocation;
+import com.nexters.teambuilder.user.domain.TokenRevocationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 폐기된 token 목록. token 하나를 폐기하거나(logout), 사용자의 특정 시점 이전 token 을 모두 폐기한다(제명, 비활성화).
+ * 폐기 항목은 DB 에 저장되어 재시작 후에도 유지되고 모든 노드가 함께 사용한다.
+ * 각 노드는 DB 의 항목을 메모리와 Bloom filter 에 올려두고, 대부분의 token 은 Bloom filter 에서 바로 걸러낸다.
+ * 다른 노드에서 추가된 항목은 sync 주기마다 가져오고, 만료된 항목은 purge 주기마다 DB 에서 지운 뒤 filter 를 다시 만든다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+    private static final String TOKEN_PREFIX = "T";
+    private static final String USER_PREFIX = "U";
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.001;
+
+    /** token 서명 -> 만료 시각(ms) */
+    private final Map<String, Long> tokens = new ConcurrentHashMap<>();
+
+    /** uuid -> 이 시각(초) 이전에 발급된 token 은 폐기 */
+    private final Map<String, UserCutoff> users = new ConcurrentHashMap<>();
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+
+    private final DateService dates;
+
+    private final long userCutoffTtlMillis;
+
+    private final long clockSkewMillis;
+
+    private final int expectedEntries;
+
+    private volatile BloomFilter<CharSequence> filter;
+
+    private volatile long syncedAt;
+
+    public TokenRevocationList(final TokenRevocationRepository tokenRevocationRepository,
+                               final DateService dates,
+                               @Value("${jwt.expiration-sec:86400}") final int accessTokenExpirationSec,
+                               @Value("${jwt.clock-skew-sec:300}") final int clockSkewSec,
+                               @Value("${auth.revocation.expected-entries:10000}") final int expectedEntries) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        this.dates = dates;
+        this.userCutoffTtlMillis = TimeUnit.SECONDS.toMillis(accessTokenExpirationSec + clockSkewSec);
+        this.clockSkewMillis = TimeUnit.SECONDS.toMillis(clockSkewSec);
+        this.expectedEntries = expectedEntries;
+        this.filter = newFilter();
+    }
+
+    public boolean isRevoked(String token, Map<String, String> claims) {
+        String signature = substringAfterLast(token, ".");
+        String uuid = claims.get("uuid");
+
+        BloomFilter<CharSequence> current = filter;
+        boolean tokenSuspected = current.mightContain(TOKEN_PREFIX + signature);
+        boolean userSuspected = uuid != null && current.mightContain(USER_PREFIX + uuid);
+        if (!tokenSuspected && !userSuspected) {
+            return false;
+        }
+
+        long now = now();
+        if (tokenSuspected) {
+            Long expiresAt = tokens.get(signature);
+            if (expiresAt != null && now < expiresAt) {
+                return true;
+            }
+        }
+        if (userSuspected) {
+            UserCutoff cutoff = users.get(uuid);
+            String issuedAt = claims.get("iat");
+            return cutoff != null && now < cutoff.expiresAt
+                    && (issuedAt == null || Long.parseLong(issuedAt) <= cutoff.issuedBeforeSec);
+        }
+        return false;
+    }
+
+    /**
+     * token 하나를 만료 시각까지 폐기한다.
+     * @param expiresAtSec token 의 exp claim. 만료가 없는 token 이면 null
+     */
+    public void revokeToken(String token, Long expiresAtSec) {
+        String signature = substringAfterLast(token, ".");
+        long expiresAt = expiresAtSec == null ? Long.MAX_VALUE : TimeUnit.SECONDS.toMillis(expiresAtSec);
+
+        tokenRevocationRepository.save(new TokenRevocation(TOKEN_PREFIX + signature, 0, expiresAt, now()));
+        tokens.put(signature, expiresAt);
+        filter.put(TOKEN_PREFIX + signature);
+    }
+
+    /**
+     * 지금까지 발급된 사용자의 token 을 모두 폐기한다.
+     */
+    public void revokeUser(String uuid) {
+        long now = now();
+        UserCutoff cutoff = new UserCutoff(TimeUnit.MILLISECONDS.toSeconds(now), now + userCutoffTtlMillis);
+
+        tokenRevocationRepository.save(
+                new TokenRevocation(USER_PREFIX + uuid, cutoff.issuedBeforeSec, cutoff.expiresAt, now));
+        users.put(uuid, cutoff);
+        filter.put(USER_PREFIX + uuid);
+    }
+
+    @PostConstruct
+    public void load() {
+        long now = now();
+        tokenRevocationRepository.findByExpiresAtGreaterThan(now).forEach(this::apply);
+        syncedAt = now;
+        rebuildFilter();
+        log.info("revocation list loaded. tokens={}, users={}", tokens.size(), users.size());
+    }
+
+    /**
+     * 마지막 sync 이후 다른 노드에서 추가된 항목을 가져온다. 노드 간 시계 차이만큼 겹쳐서 조회한다.
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation.sync-interval-ms:5000}")
+    public void sync() {
+        long now = now();
+        List<TokenRevocation> revocations = tokenRevocationRepository
+                .findByRevokedAtGreaterThanEqualAndExpiresAtGreaterThan(syncedAt - clockSkewMillis, now);
+        revocations.forEach(revocation -> {
+            apply(revocation);
+            filter.put(revocation.getKey());
+        });
+        syncedAt = now;
+    }
+
+    /**
+     * 만료된 항목을 DB 와 메모리에서 지우고 Bloom filter 를 DB 의 남은 항목으로 다시 만든다.
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        long now = now();
+        tokenRevocationRepository.deleteExpired(now);
+        tokens.values().removeIf(expiresAt -> expiresAt <= now);
+        users.values().removeIf(cutoff -> cutoff.expiresAt <= now);
+        tokenRevocationRepository.findByExpiresAtGreaterThan(now).forEach(this::apply);
+        rebuildFilter();
+    }
+
+    int size() {
+        return tokens.size() + users.size();
+    }
+
+    private void apply(TokenRevocation revocation) {
+        String key = revocation.getKey();
+        if (key.startsWith(TOKEN_PREFIX)) {
+            tokens.put(key.substring(TOKEN_PREFIX.length()), revocation.getExpiresAt());
+        } else if (key.startsWith(USER_PREFIX)) {
+            users.merge(key.substring(USER_PREFIX.length()),
+                    new UserCutoff(revocation.getIssuedBeforeSec(), revocation.getExpiresAt()),
+                    (old, loaded) -> loaded.issuedBeforeSec > old.issuedBeforeSec ? loaded : old);
+        }
+    }
+
+    private void rebuildFilter() {
+        BloomFilter<CharSequence> rebuilt = newFilter();
+        tokens.keySet().forEach(signature -> rebuilt.put(TOKEN_PREFIX + signature));
+        users.keySet().forEach(uuid -> rebuilt.put(USER_PREFIX + uuid));
+        filter = rebuilt;
+
+        // rebuild 도중 추가된 항목이 빠지지 않도록 한 번 더 넣는다.
+        tokens.keySet().forEach(signature -> filter.put(TOKEN_PREFIX + signature));
+        users.keySet().forEach(uuid -> filter.put(USER_PREFIX + uuid));
+    }
+
+    private BloomFilter<CharSequence> newFilter() {
+        return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8),
+                Math.max(expectedEntries, size()), FALSE_POSITIVE_PROBABILITY);
+    }
+
+    private long now() {
+        return dates.now().getMillis();
+    }
+
+    private static final class UserCutoff {
+        final long issuedBeforeSec;
+        final long expiresAt;
+
+        UserCutoff(long issuedBeforeSec, long expiresAt) {
+            this.issuedBeforeSec = issuedBeforeSec;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
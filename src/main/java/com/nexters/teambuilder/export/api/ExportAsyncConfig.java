@@ -0,0 +1,47 @@
+package com.nexters.teambuilder.export.api;
+
+import java.util.concurrent.Callable;
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * export 응답(StreamingResponseBody)은 async 로 전송되므로 container 의 async timeout(Tomcat 기본 30초)이 적용된다.
+ * export 요청에만 긴 timeout 을 지정해 큰 테이블도 중간에 끊기지 않고 끝까지 내려받도록 한다.
+ */
+@Configuration
+public class ExportAsyncConfig implements WebMvcConfigurer {
+    static final String EXPORT_PATH_PREFIX = "/apis/export/";
+
+    private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
+    private final long timeoutMillis;
+
+    public ExportAsyncConfig(@Value("${export.async-timeout-ms:3600000}") final long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new CallableProcessingInterceptor() {
+            /**
+             * async 처리가 시작되기 전에 호출되므로 여기서 지정한 timeout 이 해당 요청에만 적용된다.
+             */
+            @Override
+            public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                HttpServletRequest servletRequest = request.getNativeRequest(HttpServletRequest.class);
+                if (request instanceof AsyncWebRequest && servletRequest != null
+                        && URL_PATH_HELPER.getPathWithinApplication(servletRequest).startsWith(EXPORT_PATH_PREFIX)) {
+                    ((AsyncWebRequest) request).setTimeout(timeoutMillis);
+                }
+            }
+        });
+    }
+}
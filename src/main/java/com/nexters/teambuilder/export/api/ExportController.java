@@ -0,0 +1,70 @@
+package com.nexters.teambuilder.export.api;
+
+import com.nexters.teambuilder.export.service.ExportFormat;
+import com.nexters.teambuilder.export.service.ExportService;
+import com.nexters.teambuilder.user.domain.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@CrossOrigin(origins = "*")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/apis/export")
+public class ExportController {
+    private final ExportService exportService;
+
+    @GetMapping("/users")
+    public ResponseEntity<StreamingResponseBody> exportUsers(@AuthenticationPrincipal User user,
+                                                             @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.of(format);
+
+        return attachment(exportFormat, "users", exportService.exportUsers(user, exportFormat));
+    }
+
+    @GetMapping("/sessions/{sessionNumber}/users")
+    public ResponseEntity<StreamingResponseBody> exportSessionUsers(@AuthenticationPrincipal User user,
+                                                                    @PathVariable Integer sessionNumber,
+                                                                    @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.of(format);
+
+        return attachment(exportFormat, "session-" + sessionNumber + "-users",
+                exportService.exportSessionUsers(user, sessionNumber, exportFormat));
+    }
+
+    @GetMapping("/sessions/{sessionNumber}/ideas")
+    public ResponseEntity<StreamingResponseBody> exportIdeas(@AuthenticationPrincipal User user,
+                                                             @PathVariable Integer sessionNumber,
+                                                             @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.of(format);
+
+        return attachment(exportFormat, "session-" + sessionNumber + "-ideas",
+                exportService.exportIdeas(user, sessionNumber, exportFormat));
+    }
+
+    @GetMapping("/sessions/{sessionNumber}/votes")
+    public ResponseEntity<StreamingResponseBody> exportIdeaVotes(@AuthenticationPrincipal User user,
+                                                                 @PathVariable Integer sessionNumber,
+                                                                 @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.of(format);
+
+        return attachment(exportFormat, "session-" + sessionNumber + "-votes",
+                exportService.exportIdeaVotes(user, sessionNumber, exportFormat));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> attachment(ExportFormat format, String name,
+                                                                    StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + format.fileName(name) + "\"")
+                .body(body);
+    }
+}
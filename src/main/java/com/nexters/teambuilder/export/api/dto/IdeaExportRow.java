@@ -0,0 +1,31 @@
+package com.nexters.teambuilder.export.api.dto;
+
+import java.time.ZonedDateTime;
+
+import com.nexters.teambuilder.idea.domain.Idea;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class IdeaExportRow {
+    private Integer ideaId;
+
+    private Integer sessionNumber;
+
+    private Integer orderNumber;
+
+    private Idea.Type type;
+
+    private String title;
+
+    private String authorUuid;
+
+    private String authorName;
+
+    private int voteNumber;
+
+    private boolean selected;
+
+    private ZonedDateTime createdAt;
+}
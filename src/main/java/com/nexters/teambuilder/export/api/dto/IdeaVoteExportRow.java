@@ -0,0 +1,16 @@
+package com.nexters.teambuilder.export.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class IdeaVoteExportRow {
+    private Integer id;
+
+    private Integer ideaId;
+
+    private Integer sessionNumber;
+
+    private String uuid;
+}
@@ -0,0 +1,29 @@
+package com.nexters.teambuilder.export.api.dto;
+
+import com.nexters.teambuilder.user.domain.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SessionUserExportRow {
+    private Integer sessionNumber;
+
+    private String uuid;
+
+    private String id;
+
+    private String name;
+
+    private Integer nextersNumber;
+
+    private User.Position position;
+
+    private int voteCount;
+
+    private boolean voted;
+
+    private boolean submitIdea;
+
+    private boolean hasTeam;
+}
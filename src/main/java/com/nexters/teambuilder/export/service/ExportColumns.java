@@ -0,0 +1,27 @@
+package com.nexters.teambuilder.export.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * export 파일의 열 정의. 열 이름과 값을 꺼내는 함수를 순서대로 가진다.
+ */
+class ExportColumns<T> {
+    private final Map<String, Function<T, Object>> columns = new LinkedHashMap<>();
+
+    ExportColumns<T> column(String name, Function<T, Object> value) {
+        columns.put(name, value);
+        return this;
+    }
+
+    Iterable<String> names() {
+        return columns.keySet();
+    }
+
+    Map<String, Object> values(T row) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        columns.forEach((name, value) -> values.put(name, value.apply(row)));
+        return values;
+    }
+}
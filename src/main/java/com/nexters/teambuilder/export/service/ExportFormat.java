@@ -0,0 +1,36 @@
+package com.nexters.teambuilder.export.service;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.MediaType;
+
+public enum ExportFormat {
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv"),
+    NDJSON(new MediaType("application", "x-ndjson", StandardCharsets.UTF_8), "ndjson");
+
+    private final MediaType mediaType;
+
+    private final String extension;
+
+    ExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public static ExportFormat of(String format) {
+        for (ExportFormat value : values()) {
+            if (value.name().equalsIgnoreCase(format)) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 형식입니다: " + format);
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String fileName(String name) {
+        return name + "." + extension;
+    }
+}
@@ -0,0 +1,209 @@
+package com.nexters.teambuilder.export.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nexters.teambuilder.export.api.dto.IdeaExportRow;
+import com.nexters.teambuilder.export.api.dto.IdeaVoteExportRow;
+import com.nexters.teambuilder.export.api.dto.SessionUserExportRow;
+import com.nexters.teambuilder.idea.domain.IdeaRepository;
+import com.nexters.teambuilder.idea.domain.IdeaVoteRepository;
+import com.nexters.teambuilder.idea.exception.UserForbiddenActionException;
+import com.nexters.teambuilder.session.domain.Session;
+import com.nexters.teambuilder.session.domain.SessionRepository;
+import com.nexters.teambuilder.session.domain.SessionUserRepository;
+import com.nexters.teambuilder.session.exception.SessionNotFoundException;
+import com.nexters.teambuilder.user.api.dto.UserResponse;
+import com.nexters.teambuilder.user.domain.User;
+import com.nexters.teambuilder.user.domain.UserRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 회원, 기수 회원, 아이디어, 투표 기록을 CSV 또는 NDJSON 으로 내려받는다.
+ * 결과를 fetch size 단위로 읽으며 바로 응답에 쓰기 때문에, 테이블 크기와 관계없이 메모리 사용량이 일정하다.
+ * 권한과 기수 확인은 응답을 쓰기 전에 끝내므로 실패하면 일반 오류 응답이 나간다.
+ */
+@Service
+public class ExportService {
+    private static final ExportColumns<UserResponse> USER_COLUMNS = new ExportColumns<UserResponse>()
+            .column("uuid", UserResponse::getUuid)
+            .column("id", UserResponse::getId)
+            .column("name", UserResponse::getName)
+            .column("nextersNumber", UserResponse::getNextersNumber)
+            .column("role", UserResponse::getRole)
+            .column("position", UserResponse::getPosition)
+            .column("email", UserResponse::getEmail)
+            .column("activated", UserResponse::isActivated)
+            .column("voteCount", UserResponse::getVoteCount)
+            .column("voted", UserResponse::isVoted)
+            .column("submitIdea", UserResponse::isSubmitIdea)
+            .column("hasTeam", UserResponse::isHasTeam)
+            .column("createdAt", UserResponse::getCreatedAt);
+
+    private static final ExportColumns<SessionUserExportRow> SESSION_USER_COLUMNS =
+            new ExportColumns<SessionUserExportRow>()
+                    .column("sessionNumber", SessionUserExportRow::getSessionNumber)
+                    .column("uuid", SessionUserExportRow::getUuid)
+                    .column("id", SessionUserExportRow::getId)
+                    .column("name", SessionUserExportRow::getName)
+                    .column("nextersNumber", SessionUserExportRow::getNextersNumber)
+                    .column("position", SessionUserExportRow::getPosition)
+                    .column("voteCount", SessionUserExportRow::getVoteCount)
+                    .column("voted", SessionUserExportRow::isVoted)
+                    .column("submitIdea", SessionUserExportRow::isSubmitIdea)
+                    .column("hasTeam", SessionUserExportRow::isHasTeam);
+
+    private static final ExportColumns<IdeaExportRow> IDEA_COLUMNS = new ExportColumns<IdeaExportRow>()
+            .column("ideaId", IdeaExportRow::getIdeaId)
+            .column("sessionNumber", IdeaExportRow::getSessionNumber)
+            .column("orderNumber", IdeaExportRow::getOrderNumber)
+            .column("type", IdeaExportRow::getType)
+            .column("title", IdeaExportRow::getTitle)
+            .column("authorUuid", IdeaExportRow::getAuthorUuid)
+            .column("authorName", IdeaExportRow::getAuthorName)
+            .column("voteNumber", IdeaExportRow::getVoteNumber)
+            .column("selected", IdeaExportRow::isSelected)
+            .column("createdAt", IdeaExportRow::getCreatedAt);
+
+    private static final ExportColumns<IdeaVoteExportRow> IDEA_VOTE_COLUMNS = new ExportColumns<IdeaVoteExportRow>()
+            .column("id", IdeaVoteExportRow::getId)
+            .column("ideaId", IdeaVoteExportRow::getIdeaId)
+            .column("sessionNumber", IdeaVoteExportRow::getSessionNumber)
+            .column("uuid", IdeaVoteExportRow::getUuid);
+
+    private final UserRepository userRepository;
+
+    private final SessionRepository sessionRepository;
+
+    private final SessionUserRepository sessionUserRepository;
+
+    private final IdeaRepository ideaRepository;
+
+    private final IdeaVoteRepository ideaVoteRepository;
+
+    private final ObjectMapper objectMapper;
+
+    private final TransactionTemplate readOnly;
+
+    public ExportService(UserRepository userRepository,
+                         SessionRepository sessionRepository,
+                         SessionUserRepository sessionUserRepository,
+                         IdeaRepository ideaRepository,
+                         IdeaVoteRepository ideaVoteRepository,
+                         ObjectMapper objectMapper,
+                         PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.sessionRepository = sessionRepository;
+        this.sessionUserRepository = sessionUserRepository;
+        this.ideaRepository = ideaRepository;
+        this.ideaVoteRepository = ideaVoteRepository;
+        this.objectMapper = objectMapper;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+    }
+
+    public StreamingResponseBody exportUsers(User admin, ExportFormat format) {
+        checkAdmin(admin);
+
+        return export(format, USER_COLUMNS, userRepository::streamAllUserResponses);
+    }
+
+    public StreamingResponseBody exportSessionUsers(User admin, Integer sessionNumber, ExportFormat format) {
+        checkAdmin(admin);
+        Session session = getSession(sessionNumber);
+
+        return export(format, SESSION_USER_COLUMNS,
+                () -> sessionUserRepository.streamExportRowsBySessionId(session.getSessionId()));
+    }
+
+    public StreamingResponseBody exportIdeas(User admin, Integer sessionNumber, ExportFormat format) {
+        checkAdmin(admin);
+        Session session = getSession(sessionNumber);
+
+        return export(format, IDEA_COLUMNS, () -> ideaRepository.streamExportRowsBySessionId(session.getSessionId()));
+    }
+
+    public StreamingResponseBody exportIdeaVotes(User admin, Integer sessionNumber, ExportFormat format) {
+        checkAdmin(admin);
+        Session session = getSession(sessionNumber);
+
+        return export(format, IDEA_VOTE_COLUMNS,
+                () -> ideaVoteRepository.streamExportRowsBySessionNumber(session.getSessionNumber()));
+    }
+
+    private <T> StreamingResponseBody export(ExportFormat format, ExportColumns<T> columns,
+                                             Supplier<Stream<T>> query) {
+        return out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            readOnly.execute(status -> {
+                try (Stream<T> rows = query.get()) {
+                    if (format == ExportFormat.CSV) {
+                        writeCsvLine(writer, columns.names());
+                        // header 를 먼저 보내 client 가 바로 받기 시작하게 한다.
+                        writer.flush();
+                    }
+
+                    Iterator<T> iterator = rows.iterator();
+                    while (iterator.hasNext()) {
+                        T row = iterator.next();
+                        if (format == ExportFormat.CSV) {
+                            writeCsvLine(writer, columns.values(row).values());
+                        } else {
+                            writer.write(objectMapper.writeValueAsString(columns.values(row)));
+                            writer.write('\n');
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return null;
+            });
+            writer.flush();
+        };
+    }
+
+    private static void writeCsvLine(Writer writer, Iterable<?> values) throws IOException {
+        boolean first = true;
+        for (Object value : values) {
+            if (!first) {
+                writer.write(',');
+            }
+            writer.write(csvValue(value));
+            first = false;
+        }
+        writer.write('\n');
+    }
+
+    static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    private Session getSession(Integer sessionNumber) {
+        return sessionRepository.findBySessionNumber(sessionNumber)
+                .orElseThrow(() -> new SessionNotFoundException(sessionNumber));
+    }
+
+    private static void checkAdmin(User admin) {
+        if (!admin.getRole().equals(User.Role.ROLE_ADMIN)) {
+            throw new UserForbiddenActionException();
+        }
+    }
+}
@@ -15,6 +15,7 @@ import com.nexters.teambuilder.person.exception.PersonNotFoundException;
 import com.nexters.teambuilder.session.exception.SessionNotFoundException;
 import com.nexters.teambuilder.tag.exception.TagNotFoundException;
 import com.nexters.teambuilder.user.exception.LoginErrorException;
+import com.nexters.teambuilder.user.exception.UserIdAlreadyExistsException;
 import com.nexters.teambuilder.user.exception.UserNotActivatedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -24,6 +25,7 @@ import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 @ControllerAdvice
@@ -85,6 +87,17 @@ public class GlobalControllerExceptionHandler {
         return new ApiError(HttpStatus.BAD_REQUEST, 0, message);
     }
 
+    /**
+     * exception handler for duplicated id which passed the @UniqueId check but failed on the unique constraint.
+     * @param ex UserIdAlreadyExistsException
+     * @return Api Error Wrapper
+     */
+    @ExceptionHandler(UserIdAlreadyExistsException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ApiError handleDuplicatedId(UserIdAlreadyExistsException ex) {
+        return new ApiError(HttpStatus.BAD_REQUEST, 0, ex.getMessage());
+    }
+
     /**
      * exception handler for invalid period exceptions.
      * @param ex MethodArgumentNotValidException
@@ -130,4 +143,18 @@ public class GlobalControllerExceptionHandler {
         Integer code = ErrorCode.getCodeOf(message);
         return new ApiError(HttpStatus.FORBIDDEN, code, message);
     }
+
+    /**
+     * exception handler for saturated password hashing executor.
+     * @param ex RejectedExecutionException
+     * @return Api Error Wrapper
+     */
+    @ExceptionHandler(value = {
+            RejectedExecutionException.class
+    })
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    protected ApiError handleServiceUnavailable(RejectedExecutionException ex) {
+        String message = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+        return new ApiError(HttpStatus.SERVICE_UNAVAILABLE, 0, message);
+    }
 }
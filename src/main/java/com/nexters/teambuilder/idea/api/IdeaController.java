@@ -3,11 +3,16 @@ package com.nexters.teambuilder.idea.api;
 import com.fasterxml.jackson.annotation.JsonView;
 import com.nexters.teambuilder.common.response.BaseResponse;
 import com.nexters.teambuilder.common.view.Views;
+import com.nexters.teambuilder.idea.api.dto.IdeaFeedRequest;
+import com.nexters.teambuilder.idea.api.dto.IdeaFeedResponse;
 import com.nexters.teambuilder.idea.api.dto.IdeaRequest;
 import com.nexters.teambuilder.idea.api.dto.IdeaResponse;
+import com.nexters.teambuilder.idea.api.dto.IdeaSearchRequest;
+import com.nexters.teambuilder.idea.api.dto.IdeaTagFilterRequest;
 import com.nexters.teambuilder.idea.api.dto.IdeaSelectRequest;
 import com.nexters.teambuilder.idea.api.dto.MemberRequest;
 import com.nexters.teambuilder.idea.api.dto.MemberResponse;
+import com.nexters.teambuilder.idea.api.dto.TagFacetResponse;
 import com.nexters.teambuilder.idea.service.IdeaService;
 import com.nexters.teambuilder.user.domain.User;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +35,33 @@ public class IdeaController {
         return new BaseResponse<>(200, 0, ideas);
     }
 
+    @GetMapping("/feed")
+    public BaseResponse<IdeaFeedResponse> feed(@AuthenticationPrincipal User user,
+                                               @Valid IdeaFeedRequest request) {
+        IdeaFeedResponse feed = ideaService.getIdeaFeed(user, request);
+        return new BaseResponse<>(200, 0, feed);
+    }
+
+    @GetMapping("/search")
+    public BaseResponse<List<IdeaResponse>> search(@AuthenticationPrincipal User user,
+                                                   @Valid IdeaSearchRequest request) {
+        List<IdeaResponse> ideas = ideaService.searchIdeas(user, request);
+        return new BaseResponse<>(200, 0, ideas);
+    }
+
+    @GetMapping("/tags/filter")
+    public BaseResponse<List<IdeaResponse>> filterByTags(@AuthenticationPrincipal User user,
+                                                         @Valid IdeaTagFilterRequest request) {
+        List<IdeaResponse> ideas = ideaService.filterIdeasByTags(user, request);
+        return new BaseResponse<>(200, 0, ideas);
+    }
+
+    @GetMapping("/tags/facets")
+    public BaseResponse<List<TagFacetResponse>> tagFacets(@RequestParam(required = false) Integer sessionId) {
+        List<TagFacetResponse> facets = ideaService.tagFacets(sessionId);
+        return new BaseResponse<>(200, 0, facets);
+    }
+
     @PostMapping
     public BaseResponse<IdeaResponse> create(@AuthenticationPrincipal User user,
                                              @RequestBody @Valid IdeaRequest request){
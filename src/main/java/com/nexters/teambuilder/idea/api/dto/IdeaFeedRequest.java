@@ -0,0 +1,29 @@
+package com.nexters.teambuilder.idea.api.dto;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+
+import com.nexters.teambuilder.idea.domain.Idea;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class IdeaFeedRequest {
+    // 이전 페이지의 마지막 ideaId, 첫 페이지는 null
+    private Integer cursor;
+
+    @Min(1)
+    @Max(100)
+    private int size = 20;
+
+    private Integer sessionId;
+
+    private Idea.Type type;
+
+    private Boolean selected;
+}
@@ -0,0 +1,24 @@
+package com.nexters.teambuilder.idea.api.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class IdeaFeedResponse {
+    private List<IdeaResponse> ideas;
+
+    // 다음 페이지 요청에 사용할 cursor, 마지막 페이지면 null
+    private Integer nextCursor;
+
+    public static IdeaFeedResponse of(List<IdeaResponse> ideas, int size) {
+        Integer nextCursor = ideas.size() < size ? null : ideas.get(ideas.size() - 1).getIdeaId();
+        return new IdeaFeedResponse(ideas, nextCursor);
+    }
+}
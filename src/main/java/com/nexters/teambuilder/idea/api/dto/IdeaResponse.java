@@ -95,12 +95,21 @@ public class IdeaResponse {
     }
 
     public static IdeaResponse of(Idea idea) {
-        return new IdeaResponse(idea.getIdeaId(), idea.getSession().getSessionId(), idea.getTitle(),
+        IdeaResponse ideaResponse = new IdeaResponse(idea.getIdeaId(), idea.getSession().getSessionId(), idea.getTitle(),
                 idea.getContent(), idea.getAuthor(), idea.getFile(),
                 idea.isSelected(), idea.getType(),
                 idea.getCreatedAt(), idea.getUpdateAt(),
                 idea.getTags(), idea.getVoteNumber(),
                 idea.getMembers().stream().collect(Collectors.toList()));
+        if (idea.getOrderNumber() != null) {
+            ideaResponse.setOrderNumber(idea.getOrderNumber());
+        }
+        return ideaResponse;
+    }
+
+    public IdeaResponse withFavorite(boolean favorite) {
+        return new IdeaResponse(ideaId, sessionId, title, content, author, file, selected, type, tags,
+                favorite, orderNumber, voteNumber, createdAt, updatedAt, members);
     }
 
     public void updateOrderNumber(Integer orderNumber){
@@ -0,0 +1,29 @@
+package com.nexters.teambuilder.idea.api.dto;
+
+import com.nexters.teambuilder.idea.domain.Idea;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 검색 색인에 필요한 아이디어 필드만 담는다.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class IdeaSearchDocument {
+    private Integer ideaId;
+
+    private Integer sessionId;
+
+    private String title;
+
+    private String content;
+
+    public static IdeaSearchDocument of(Idea idea) {
+        return new IdeaSearchDocument(idea.getIdeaId(), idea.getSession().getSessionId(),
+                idea.getTitle(), idea.getContent());
+    }
+}
@@ -0,0 +1,25 @@
+package com.nexters.teambuilder.idea.api.dto;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class IdeaSearchRequest {
+    @NotBlank
+    private String query;
+
+    private Integer sessionId;
+
+    @Min(1)
+    @Max(100)
+    private int size = 20;
+}
@@ -0,0 +1,21 @@
+package com.nexters.teambuilder.idea.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 태그 색인을 만들기 위한 idea_tag 한 row. 태그가 없는 아이디어는 tagId 가 null 이다.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class IdeaTagDocument {
+    private Integer ideaId;
+
+    private Integer sessionId;
+
+    private Integer tagId;
+}
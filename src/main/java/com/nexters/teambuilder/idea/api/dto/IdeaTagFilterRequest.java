@@ -0,0 +1,27 @@
+package com.nexters.teambuilder.idea.api.dto;
+
+import java.util.List;
+import javax.validation.constraints.NotEmpty;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class IdeaTagFilterRequest {
+    public enum Match {
+        ALL, ANY
+    }
+
+    @NotEmpty
+    private List<Integer> tagIds;
+
+    // ALL: 모든 태그를 가진 아이디어, ANY: 하나 이상의 태그를 가진 아이디어
+    private Match match = Match.ALL;
+
+    private Integer sessionId;
+}
@@ -0,0 +1,25 @@
+package com.nexters.teambuilder.idea.api.dto;
+
+import com.nexters.teambuilder.tag.domain.Tag;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TagFacetResponse {
+    private Integer tagId;
+
+    private String name;
+
+    private Tag.Type type;
+
+    private int ideaCount;
+
+    public static TagFacetResponse of(Tag tag, int ideaCount) {
+        return new TagFacetResponse(tag.getTagId(), tag.getName(), tag.getType(), ideaCount);
+    }
+}
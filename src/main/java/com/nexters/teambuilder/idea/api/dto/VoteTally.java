@@ -0,0 +1,16 @@
+package com.nexters.teambuilder.idea.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class VoteTally {
+    private Integer ideaId;
+
+    private int voteNumber;
+}
@@ -59,8 +59,14 @@ public class Idea {
             inverseJoinColumns = { @JoinColumn(name = "tag_id") })
     private Set<Tag> tags;
 
+    // 투표 수는 IdeaRepository.increaseVoteNumber 로만 변경한다. 엔티티 저장 시 덮어쓰지 않도록 updatable = false
+    @Column(updatable = false)
     private int voteNumber;
 
+    // 세션 안에서의 작성 순번. 작성 시 SequenceService 로 발급하며 이후 바뀌지 않는다.
+    @Column(updatable = false)
+    private Integer orderNumber;
+
     @CreationTimestamp
     @Column(name = "create_at", nullable = false, updatable = false)
     private ZonedDateTime createdAt;
@@ -90,6 +96,10 @@ public class Idea {
         this.members.add(author);
     }
 
+    public void assignOrderNumber(int orderNumber) {
+        this.orderNumber = orderNumber;
+    }
+
     public void update(IdeaRequest request, List<Tag> tags) {
         this.title = request.getTitle();
         this.content = request.getContent();
@@ -110,10 +120,6 @@ public class Idea {
                 author, request.getFile(), request.getType(), tags);
     }
 
-    public void vote() {
-        this.voteNumber++;
-    }
-
     public void addMember(List<User> members) {
         members.stream().forEach(member -> member.updateHasTeam(true));
         this.author.updateHasTeam(true);
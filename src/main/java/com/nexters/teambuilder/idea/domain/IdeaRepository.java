@@ -1,12 +1,119 @@
 package com.nexters.teambuilder.idea.domain;
 
 
+import com.nexters.teambuilder.export.api.dto.IdeaExportRow;
+import com.nexters.teambuilder.idea.api.dto.IdeaSearchDocument;
+import com.nexters.teambuilder.idea.api.dto.IdeaTagDocument;
+import com.nexters.teambuilder.idea.api.dto.VoteTally;
+import com.nexters.teambuilder.idea.api.dto.VotedIdeaResponse;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.annotations.QueryHints.PASS_DISTINCT_THROUGH;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 public interface IdeaRepository extends JpaRepository<Idea, Integer> {
+    String FETCH_DETAILS = "select distinct i from Idea i"
+            + " join fetch i.session"
+            + " join fetch i.author"
+            + " left join fetch i.tags"
+            + " left join fetch i.members";
+
     List<Idea> findAllBySessionSessionId(Integer sessionId);
     List<Idea> findAllByIdeaIdIn(List<Integer> ideaIds);
     boolean existsIdeaByIdeaId(Integer ideaId);
+
+    /**
+     * 목록 응답에 필요한 session, author, tags, members 를 한 번의 쿼리로 가져온다.
+     * @return ideaId 순으로 정렬된 아이디어 목록
+     */
+    @QueryHints(@QueryHint(name = PASS_DISTINCT_THROUGH, value = "false"))
+    @Query(FETCH_DETAILS + " order by i.ideaId")
+    List<Idea> findAllWithDetails();
+
+    @QueryHints(@QueryHint(name = PASS_DISTINCT_THROUGH, value = "false"))
+    @Query(FETCH_DETAILS + " where i.session.sessionId = :sessionId order by i.ideaId")
+    List<Idea> findAllWithDetailsBySessionId(@Param("sessionId") Integer sessionId);
+
+    @QueryHints(@QueryHint(name = PASS_DISTINCT_THROUGH, value = "false"))
+    @Query(FETCH_DETAILS + " where i.ideaId in :ideaIds order by i.ideaId")
+    List<Idea> findAllWithDetailsByIdeaIdIn(@Param("ideaIds") Collection<Integer> ideaIds);
+
+    @Query("select new com.nexters.teambuilder.idea.api.dto.VotedIdeaResponse(i.ideaId, i.title)"
+            + " from Idea i where i.ideaId in :ideaIds")
+    List<VotedIdeaResponse> findVotedIdeasByIdeaIdIn(@Param("ideaIds") Collection<Integer> ideaIds);
+
+    /**
+     * cursor 보다 작은 ideaId 를 최신순으로 가져온다.
+     * 정렬과 limit 은 pageable 의 size 로 DB 에서 처리하며, null 인 조건은 무시한다.
+     * @return ideaId 역순으로 정렬된 최대 pageable.size 개의 ideaId
+     */
+    @Query("select i.ideaId from Idea i"
+            + " where (:cursor is null or i.ideaId < :cursor)"
+            + " and (:sessionId is null or i.session.sessionId = :sessionId)"
+            + " and (:type is null or i.type = :type)"
+            + " and (:selected is null or i.selected = :selected)"
+            + " order by i.ideaId desc")
+    List<Integer> findFeedIdeaIds(@Param("cursor") Integer cursor,
+                                  @Param("sessionId") Integer sessionId,
+                                  @Param("type") Idea.Type type,
+                                  @Param("selected") Boolean selected,
+                                  Pageable pageable);
+
+    @Query("select new com.nexters.teambuilder.idea.api.dto.IdeaSearchDocument("
+            + "i.ideaId, i.session.sessionId, i.title, i.content) from Idea i")
+    List<IdeaSearchDocument> findAllSearchDocuments();
+
+    @Query("select new com.nexters.teambuilder.idea.api.dto.IdeaTagDocument(i.ideaId, s.sessionId, t.tagId)"
+            + " from Idea i join i.session s left join i.tags t")
+    List<IdeaTagDocument> findAllTagDocuments();
+
+    @Query("select new com.nexters.teambuilder.idea.api.dto.VoteTally(i.ideaId, i.voteNumber)"
+            + " from Idea i where i.ideaId in :ideaIds")
+    List<VoteTally> findVoteTalliesByIdeaIdIn(@Param("ideaIds") Collection<Integer> ideaIds);
+
+    @Query("select new com.nexters.teambuilder.idea.api.dto.VoteTally(i.ideaId, i.voteNumber)"
+            + " from Idea i where i.session.sessionId = :sessionId")
+    List<VoteTally> findVoteTalliesBySessionId(@Param("sessionId") Integer sessionId);
+
+    /**
+     * 읽은 값에 더해 저장하지 않고 DB 에서 원자적으로 투표 수를 증가시킨다.
+     * 동시에 투표해도 표가 유실되지 않는다.
+     * @return 변경된 row 수, 아이디어가 없으면 0
+     */
+    @Transactional
+    @Modifying
+    @Query("update Idea i set i.voteNumber = i.voteNumber + 1 where i.ideaId = :ideaId")
+    int increaseVoteNumber(@Param("ideaId") Integer ideaId);
+
+    @Transactional
+    @Modifying
+    @Query("update Idea i set i.voteNumber = i.voteNumber + 1 where i.ideaId in :ideaIds")
+    int increaseVoteNumbers(@Param("ideaIds") Collection<Integer> ideaIds);
+
+    @Query("select coalesce(max(i.orderNumber), 0) from Idea i where i.session.sessionId = :sessionId")
+    int findMaxOrderNumberBySessionId(@Param("sessionId") Integer sessionId);
+
+    List<Idea> findAllByOrderNumberIsNullOrderByIdeaIdAsc();
+
+    @Transactional
+    @Modifying
+    @Query("update Idea i set i.orderNumber = :orderNumber where i.ideaId = :ideaId")
+    int updateOrderNumber(@Param("ideaId") Integer ideaId, @Param("orderNumber") Integer orderNumber);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("select new com.nexters.teambuilder.export.api.dto.IdeaExportRow(i.ideaId, i.session.sessionNumber, "
+            + "i.orderNumber, i.type, i.title, i.author.uuid, i.author.name, i.voteNumber, i.selected, i.createdAt) "
+            + "from Idea i where i.session.sessionId = :sessionId order by i.ideaId")
+    Stream<IdeaExportRow> streamExportRowsBySessionId(@Param("sessionId") Integer sessionId);
 }
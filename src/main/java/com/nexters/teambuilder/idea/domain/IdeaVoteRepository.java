@@ -1,9 +1,22 @@
 package com.nexters.teambuilder.idea.domain;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
 import java.util.List;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 
+import com.nexters.teambuilder.export.api.dto.IdeaVoteExportRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface IdeaVoteRepository extends JpaRepository<IdeaVote, Integer> {
+public interface IdeaVoteRepository extends JpaRepository<IdeaVote, Integer>, IdeaVoteRepositoryCustom {
     List<IdeaVote> findAllByUuidAndSessionNumber(String uuid, Integer sessionId);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("select new com.nexters.teambuilder.export.api.dto.IdeaVoteExportRow(v.id, v.ideaId, v.sessionNumber, "
+            + "v.uuid) from IdeaVote v where v.sessionNumber = :sessionNumber order by v.id")
+    Stream<IdeaVoteExportRow> streamExportRowsBySessionNumber(@Param("sessionNumber") Integer sessionNumber);
 }
@@ -0,0 +1,11 @@
+package com.nexters.teambuilder.idea.domain;
+
+import java.util.List;
+
+public interface IdeaVoteRepositoryCustom {
+    /**
+     * 투표 기록을 JDBC batch insert 로 한 번에 저장한다.
+     * IDENTITY 전략에서는 Hibernate 가 insert 를 batch 로 묶지 않기 때문에 따로 둔다.
+     */
+    void saveAllInBatch(List<IdeaVote> ideaVotes);
+}
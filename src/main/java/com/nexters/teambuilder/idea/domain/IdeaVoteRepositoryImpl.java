@@ -0,0 +1,23 @@
+package com.nexters.teambuilder.idea.domain;
+
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class IdeaVoteRepositoryImpl implements IdeaVoteRepositoryCustom {
+    private static final String INSERT_IDEA_VOTE =
+            "insert into idea_vote (idea_id, session_number, uuid) values (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void saveAllInBatch(List<IdeaVote> ideaVotes) {
+        jdbcTemplate.batchUpdate(INSERT_IDEA_VOTE, ideaVotes, ideaVotes.size(), (ps, ideaVote) -> {
+            ps.setInt(1, ideaVote.getIdeaId());
+            ps.setInt(2, ideaVote.getSessionNumber());
+            ps.setString(3, ideaVote.getUuid());
+        });
+    }
+}
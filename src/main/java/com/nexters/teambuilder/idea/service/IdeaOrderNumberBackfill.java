@@ -0,0 +1,49 @@
+package com.nexters.teambuilder.idea.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.nexters.teambuilder.common.Service.SequenceService;
+import com.nexters.teambuilder.idea.domain.Idea;
+import com.nexters.teambuilder.idea.domain.IdeaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * orderNumber 가 저장되기 전에 작성된 아이디어에 순번을 채운다.
+ * 예전처럼 세션별 작성(ideaId) 순서대로 번호를 매기고, 번호는 SequenceService 에서 예약해 이후 작성되는 아이디어와 겹치지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdeaOrderNumberBackfill {
+    private final IdeaRepository ideaRepository;
+
+    private final SequenceService sequenceService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        List<Idea> ideas = ideaRepository.findAllByOrderNumberIsNullOrderByIdeaIdAsc();
+        if (ideas.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, List<Integer>> ideaIdsBySession = ideas.stream()
+                .collect(Collectors.groupingBy(idea -> idea.getSession().getSessionId(), LinkedHashMap::new,
+                        Collectors.mapping(Idea::getIdeaId, Collectors.toList())));
+
+        ideaIdsBySession.forEach((sessionId, ideaIds) -> {
+            long first = sequenceService.nextBlock(SequenceService.ideaOrderNumber(sessionId), ideaIds.size(),
+                    () -> ideaRepository.findMaxOrderNumberBySessionId(sessionId) + 1);
+            for (int i = 0; i < ideaIds.size(); i++) {
+                ideaRepository.updateOrderNumber(ideaIds.get(i), (int) first + i);
+            }
+        });
+        log.info("idea order numbers backfilled: {} ideas in {} sessions", ideas.size(), ideaIdsBySession.size());
+    }
+}
@@ -0,0 +1,176 @@
+package com.nexters.teambuilder.idea.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.nexters.teambuilder.common.transaction.AfterCommit;
+import com.nexters.teambuilder.idea.api.dto.IdeaSearchDocument;
+import com.nexters.teambuilder.idea.domain.IdeaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 아이디어 제목과 내용에 대한 메모리 역색인.
+ * 한글은 음절 bigram(과 낮은 가중치의 음절 unigram), 그 외 문자는 단어 단위로 나누며
+ * TF-IDF 점수가 높은 순으로 상위 k 개를 돌려준다.
+ * 애플리케이션 시작 시 DB 에서 다시 만들고, 이후에는 아이디어 작성/수정/삭제 시 해당 아이디어만 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdeaSearchIndex {
+    private static final int TITLE_WEIGHT = 3;
+
+    private final IdeaRepository ideaRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // term -> (ideaId -> 가중치가 적용된 term frequency)
+    private final Map<String, Map<Integer, Integer>> postings = new HashMap<>();
+
+    private final Map<Integer, IndexedIdea> ideas = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<IdeaSearchDocument> documents = ideaRepository.findAllSearchDocuments();
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            ideas.clear();
+            documents.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("idea search index rebuilt: {} ideas, {} terms", documents.size(), postings.size());
+    }
+
+    public void index(IdeaSearchDocument document) {
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                remove(document.getIdeaId());
+                add(document);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void delete(Integer ideaId) {
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                remove(ideaId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * @param query 검색어
+     * @param sessionId 기수 id 필터, null 이면 전체
+     * @param limit 최대 결과 수
+     * @return 점수가 높은 순으로 정렬된 ideaId 목록
+     */
+    public List<Integer> search(String query, Integer sessionId, int limit) {
+        Set<String> queryTerms = IdeaTokenizer.tokenize(query).keySet();
+        if (queryTerms.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Integer, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int ideaCount = ideas.size();
+            for (String term : queryTerms) {
+                Map<Integer, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+
+                double idf = Math.log(1 + (double) ideaCount / posting.size());
+                posting.forEach((ideaId, frequency) -> {
+                    IndexedIdea idea = ideas.get(ideaId);
+                    if (sessionId == null || sessionId.equals(idea.sessionId)) {
+                        double tf = frequency / Math.sqrt(idea.length);
+                        scores.merge(ideaId, tf * idf, Double::sum);
+                    }
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return topK(scores, limit);
+    }
+
+    private static List<Integer> topK(Map<Integer, Double> scores, int limit) {
+        Comparator<Map.Entry<Integer, Double>> byScore = Map.Entry.<Integer, Double>comparingByValue()
+                .thenComparing(Map.Entry.comparingByKey());
+        PriorityQueue<Map.Entry<Integer, Double>> top = new PriorityQueue<>(limit + 1, byScore);
+        for (Map.Entry<Integer, Double> score : scores.entrySet()) {
+            top.offer(score);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<Integer> ideaIds = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            ideaIds.add(top.poll().getKey());
+        }
+        Collections.reverse(ideaIds);
+        return ideaIds;
+    }
+
+    private void add(IdeaSearchDocument document) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        IdeaTokenizer.tokenizeForIndex(document.getTitle())
+                .forEach((term, count) -> frequencies.merge(term, count * TITLE_WEIGHT, Integer::sum));
+        IdeaTokenizer.tokenizeForIndex(document.getContent())
+                .forEach((term, count) -> frequencies.merge(term, count, Integer::sum));
+
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+        ideas.put(document.getIdeaId(),
+                new IndexedIdea(document.getSessionId(), frequencies.keySet(), Math.max(length, 1)));
+        frequencies.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, key -> new HashMap<>()).put(document.getIdeaId(), frequency));
+    }
+
+    private void remove(Integer ideaId) {
+        IndexedIdea idea = ideas.remove(ideaId);
+        if (idea == null) {
+            return;
+        }
+
+        for (String term : idea.terms) {
+            Map<Integer, Integer> posting = postings.get(term);
+            posting.remove(ideaId);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class IndexedIdea {
+        private final Integer sessionId;
+
+        private final Set<String> terms;
+
+        private final int length;
+    }
+}
@@ -1,6 +1,9 @@
 package com.nexters.teambuilder.idea.service;
 
+import com.nexters.teambuilder.common.Service.SequenceService;
 import com.nexters.teambuilder.common.exception.NotValidPeriodException;
+import com.nexters.teambuilder.common.transaction.AfterCommit;
+import com.nexters.teambuilder.config.security.PrincipalCache;
 import com.nexters.teambuilder.favorite.domain.Favorite;
 import com.nexters.teambuilder.favorite.domain.FavoriteRepository;
 import com.nexters.teambuilder.idea.api.dto.*;
@@ -15,19 +18,29 @@ import com.nexters.teambuilder.idea.exception.UserHasTeamException;
 import com.nexters.teambuilder.session.domain.Period;
 import com.nexters.teambuilder.session.domain.Session;
 import com.nexters.teambuilder.session.domain.SessionRepository;
-import com.nexters.teambuilder.session.domain.SessionUser;
+import com.nexters.teambuilder.session.domain.SessionUserRepository;
 import com.nexters.teambuilder.session.exception.SessionNotFoundException;
+import com.nexters.teambuilder.session.service.SessionSnapshotCache;
+import com.nexters.teambuilder.session.service.VoteTallyBroadcaster;
 import com.nexters.teambuilder.tag.domain.Tag;
 import com.nexters.teambuilder.tag.domain.TagRepository;
 import com.nexters.teambuilder.user.domain.User;
 import com.nexters.teambuilder.user.domain.UserRepository;
 import com.nexters.teambuilder.user.exception.UserNotActivatedException;
+import com.nexters.teambuilder.user.exception.UserNotFoundException;
+import com.nexters.teambuilder.user.service.UserDirectoryIndex;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.nexters.teambuilder.user.domain.User.Role.ROLE_ADMIN;
@@ -40,13 +53,27 @@ public class IdeaService {
     private final IdeaRepository ideaRepository;
     private final IdeaVoteRepository ideaVoteRepository;
     private final SessionRepository sessionRepository;
+    private final SessionUserRepository sessionUserRepository;
     private final TagRepository tagRepository;
     private final FavoriteRepository favoriteRepository;
     private final UserRepository userRepository;
-
-    public IdeaResponse createIdea(User author, IdeaRequest request) {
+    private final SessionSnapshotCache sessionSnapshotCache;
+    private final VoteTallyBroadcaster voteTallyBroadcaster;
+    private final IdeaSearchIndex ideaSearchIndex;
+    private final IdeaTagIndex ideaTagIndex;
+    private final PrincipalCache principalCache;
+
+    private final SequenceService sequenceService;
+    private final UserDirectoryIndex userDirectoryIndex;
+
+    /**
+     * 작성자의 아이디어 제출 상태를 바꾸므로 캐시된 인증 사용자 대신 엔티티를 다시 조회해 사용한다.
+     */
+    public IdeaResponse createIdea(User principal, IdeaRequest request) {
         Session session = sessionRepository.findById(request.getSessionId())
                 .orElseThrow(() -> new SessionNotFoundException(request.getSessionId()));
+        User author = userRepository.findUserByUuid(principal.getUuid())
+                .orElseThrow(() -> new UserNotFoundException(principal.getUuid()));
 
         checkValidPeriodForAction(author, session, Period.PeriodType.IDEA_COLLECT);
 
@@ -57,11 +84,19 @@ public class IdeaService {
         if (!author.isSubmitIdea()) {
             author.updateSubmitIdea(true);
             userRepository.save(author);
+            principalCache.invalidate(author.getUuid());
         }
 
         List<Tag> tags = tagRepository.findAllById(request.getTags());
 
-        return IdeaResponse.of(ideaRepository.save(Idea.of(session, author, tags, request)));
+        Idea newIdea = Idea.of(session, author, tags, request);
+        newIdea.assignOrderNumber((int) sequenceService.next(SequenceService.ideaOrderNumber(session.getSessionId()),
+                () -> ideaRepository.findMaxOrderNumberBySessionId(session.getSessionId()) + 1));
+        Idea idea = ideaRepository.save(newIdea);
+        sessionSnapshotCache.evict(session.getSessionNumber());
+        ideaSearchIndex.index(IdeaSearchDocument.of(idea));
+        ideaTagIndex.index(idea.getIdeaId(), session.getSessionId(), tagIds(idea));
+        return IdeaResponse.of(idea);
     }
 
     public IdeaResponse getIdea(User user, Integer ideaId) {
@@ -88,49 +123,127 @@ public class IdeaService {
 
         idea.update(request, tags);
 
-        return IdeaResponse.of(ideaRepository.save(idea));
+        Idea updatedIdea = ideaRepository.save(idea);
+        sessionSnapshotCache.evict(updatedIdea.getSession().getSessionNumber());
+        ideaSearchIndex.index(IdeaSearchDocument.of(updatedIdea));
+        ideaTagIndex.index(ideaId, updatedIdea.getSession().getSessionId(), tagIds(updatedIdea));
+        return IdeaResponse.of(updatedIdea);
     }
 
     public List<IdeaResponse> getIdeaList(User user) {
-        List<Idea> ideaList = ideaRepository.findAll();
-        List<Favorite> favoriteList = favoriteRepository.findAllByUuid(user.getUuid());
+        return toIdeaResponses(ideaRepository.findAllWithDetails(), favoriteIdeaIds(user));
+    }
 
-        return ideaList.stream()
-                .sorted(Comparator.comparing(Idea::getIdeaId).reversed())
-                .map(idea -> {
-                    IdeaResponse ideaResponse = IdeaResponse.of(idea);
-                    ideaResponse.setOrderNumber(ideaList.indexOf(idea) + 1);
+    public List<IdeaResponse> getIdeaListBySessionId(Integer sessionId, User user) {
+        return toIdeaResponses(ideaRepository.findAllWithDetailsBySessionId(sessionId), favoriteIdeaIds(user));
+    }
 
-                    favoriteList.forEach(favorite ->
-                            addFavoriteToIdeaResponse(favorite, idea, ideaResponse));
+    /**
+     * 사용자와 무관한 기수별 아이디어 목록. favorite 은 모두 false 로 채워진다.
+     */
+    public List<IdeaResponse> getIdeaListBySessionId(Integer sessionId) {
+        return toIdeaResponses(ideaRepository.findAllWithDetailsBySessionId(sessionId), Collections.emptySet());
+    }
 
-                    return ideaResponse;
-                }).collect(Collectors.toList());
+    public IdeaFeedResponse getIdeaFeed(User user, IdeaFeedRequest request) {
+        List<Integer> ideaIds = ideaRepository.findFeedIdeaIds(request.getCursor(), request.getSessionId(),
+                request.getType(), request.getSelected(), PageRequest.of(0, request.getSize()));
+        if (ideaIds.isEmpty()) {
+            return IdeaFeedResponse.of(Collections.emptyList(), request.getSize());
+        }
+
+        return IdeaFeedResponse.of(findLatestFirst(user, ideaIds), request.getSize());
     }
 
-    private void addFavoriteToIdeaResponse(Favorite favorite, Idea idea, IdeaResponse ideaResponse) {
-        if (favorite.getIdeaId().equals(idea.getIdeaId())) {
-            ideaResponse.setFavorite(true);
+    /**
+     * 태그 AND/OR 조건으로 아이디어를 필터링한다.
+     * @return 최신순으로 정렬된 아이디어 목록
+     */
+    public List<IdeaResponse> filterIdeasByTags(User user, IdeaTagFilterRequest request) {
+        List<Integer> ideaIds = ideaTagIndex.filter(request.getTagIds(), request.getMatch(), request.getSessionId());
+        if (ideaIds.isEmpty()) {
+            return Collections.emptyList();
         }
+
+        return findLatestFirst(user, ideaIds);
     }
 
-    public List<IdeaResponse> getIdeaListBySessionId(Integer sessionId, User user) {
-        List<Idea> ideaList = ideaRepository.findAllBySessionSessionId(sessionId);
-        List<Favorite> favoriteList = favoriteRepository.findAllByUuid(user.getUuid());
+    /**
+     * @param sessionId 기수 id, null 이면 전체 아이디어 기준
+     * @return 태그별 아이디어 수
+     */
+    public List<TagFacetResponse> tagFacets(Integer sessionId) {
+        Map<Integer, Integer> facetCounts = ideaTagIndex.facetCounts(sessionId);
+        return tagRepository.findAll().stream()
+                .sorted(Comparator.comparing(Tag::getTagId).reversed())
+                .map(tag -> TagFacetResponse.of(tag, facetCounts.getOrDefault(tag.getTagId(), 0)))
+                .collect(Collectors.toList());
+    }
+
+    private List<IdeaResponse> findLatestFirst(User user, List<Integer> ideaIds) {
+        Set<Integer> favoriteIdeaIds = favoriteIdeaIds(user);
 
-        return ideaList.stream()
+        return ideaRepository.findAllWithDetailsByIdeaIdIn(ideaIds).stream()
                 .sorted(Comparator.comparing(Idea::getIdeaId).reversed())
                 .map(idea -> {
                     IdeaResponse ideaResponse = IdeaResponse.of(idea);
-                    ideaResponse.setOrderNumber(ideaList.indexOf(idea) + 1);
+                    ideaResponse.setFavorite(favoriteIdeaIds.contains(idea.getIdeaId()));
+                    return ideaResponse;
+                }).collect(Collectors.toList());
+    }
+
+    private static List<Integer> tagIds(Idea idea) {
+        return idea.getTags().stream().map(Tag::getTagId).collect(Collectors.toList());
+    }
+
+    /**
+     * 제목과 내용으로 아이디어를 검색한다.
+     * @return 검색 점수가 높은 순으로 정렬된 아이디어 목록
+     */
+    public List<IdeaResponse> searchIdeas(User user, IdeaSearchRequest request) {
+        List<Integer> ideaIds = ideaSearchIndex.search(request.getQuery(), request.getSessionId(), request.getSize());
+        if (ideaIds.isEmpty()) {
+            return Collections.emptyList();
+        }
 
-                    favoriteList.forEach(favorite ->
-                            addFavoriteToIdeaResponse(favorite, idea, ideaResponse));
+        Set<Integer> favoriteIdeaIds = favoriteIdeaIds(user);
+        Map<Integer, Idea> ideas = ideaRepository.findAllWithDetailsByIdeaIdIn(ideaIds).stream()
+                .collect(Collectors.toMap(Idea::getIdeaId, Function.identity()));
 
+        return ideaIds.stream()
+                .filter(ideas::containsKey)
+                .map(ideaId -> {
+                    IdeaResponse ideaResponse = IdeaResponse.of(ideas.get(ideaId));
+                    ideaResponse.setFavorite(favoriteIdeaIds.contains(ideaId));
                     return ideaResponse;
                 }).collect(Collectors.toList());
     }
 
+    public Set<Integer> favoriteIdeaIds(User user) {
+        return favoriteRepository.findAllByUuid(user.getUuid()).stream()
+                .map(Favorite::getIdeaId)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 조회된 아이디어 목록을 한 번만 순회하며 응답으로 변환한다.
+     * favorite 여부는 즐겨찾기 id set 으로 채운 뒤 최신순으로 정렬한다. orderNumber 는 아이디어에 저장된 값을 사용한다.
+     * @param ideaList 조회된 아이디어 목록
+     * @param favoriteIdeaIds 사용자가 즐겨찾기한 아이디어 id 목록
+     * @return ideaId 역순으로 정렬된 아이디어 목록
+     */
+    static List<IdeaResponse> toIdeaResponses(List<Idea> ideaList, Set<Integer> favoriteIdeaIds) {
+        List<IdeaResponse> ideaResponses = new ArrayList<>(ideaList.size());
+        for (Idea idea : ideaList) {
+            IdeaResponse ideaResponse = IdeaResponse.of(idea);
+            ideaResponse.setFavorite(favoriteIdeaIds.contains(idea.getIdeaId()));
+            ideaResponses.add(ideaResponse);
+        }
+
+        ideaResponses.sort(Comparator.comparing(IdeaResponse::getIdeaId).reversed());
+        return ideaResponses;
+    }
+
     public void deleteIdea(User author, Integer ideaId) {
         Idea idea = ideaRepository.findById(ideaId)
                 .orElseThrow(() -> new IdeaNotFoundException(ideaId));
@@ -142,62 +255,64 @@ public class IdeaService {
         favoriteRepository.findFavoriteByIdeaIdAndUuid(ideaId, author.getUuid()).ifPresent(favoriteRepository::delete);
 
         ideaRepository.delete(idea);
+        sessionSnapshotCache.evict(idea.getSession().getSessionNumber());
+        ideaSearchIndex.delete(ideaId);
+        ideaTagIndex.delete(ideaId);
     }
 
+    /**
+     * 기수 회원의 투표 수를 조건부 update 로 증가시킨 뒤 아이디어 투표 수를 올린다.
+     * 세션 회원 목록을 불러오지 않으며, 최대 투표 수 검사는 DB 에서 원자적으로 이루어진다.
+     */
+    @Transactional
     public void ideaVote(User voter, Integer ideaId) {
         Idea idea = ideaRepository.findById(ideaId).orElseThrow(() -> new IdeaNotFoundException(ideaId));
+        Session session = idea.getSession();
 
-        Optional<SessionUser> sessionUserOptional = idea.getSession().getSessionUsers().stream()
-                .filter(sessionUser -> sessionUser.getUser().getUuid().equals(voter.getUuid()))
-                .findAny();
-
-        checkValidPeriodForAction(voter, idea.getSession(), Period.PeriodType.IDEA_VOTE);
+        checkValidPeriodForAction(voter, session, Period.PeriodType.IDEA_VOTE);
 
-        if (!sessionUserOptional.isPresent()) {
-            throw new NotHasRightVoteException();
-        }
-        if (sessionUserOptional.get().getVoteCount() == sessionUserOptional.get().getSession().getMaxVoteCount()) {
+        if (sessionUserRepository.increaseVoteCount(session.getSessionId(), voter.getUuid(),
+                session.getMaxVoteCount()) == 0) {
+            if (!sessionUserRepository.existsByIdSessionIdAndIdUuid(session.getSessionId(), voter.getUuid())) {
+                throw new NotHasRightVoteException();
+            }
             throw new IllegalArgumentException("최대 투표 수를 모두 소모하였습니다.");
         }
 
-        idea.vote();
-        ideaRepository.save(idea);
-        Session session = idea.getSession();
-        session.getSessionUsers().stream()
-                .filter(sessionUser -> sessionUser.getUser().getUuid().equals(voter.getUuid()))
-                .findFirst()
-                .ifPresent(sessionUser -> {
-                    sessionUser.plusVoteCount();
-                    if (!sessionUser.isVoted()) {
-                        sessionUser.updateVoted();
-                    }
-                });
-
-        sessionRepository.save(session);
+        ideaRepository.increaseVoteNumber(ideaId);
+        sessionSnapshotCache.evict(session.getSessionNumber());
+        voteTallyBroadcaster.markVoted(session.getSessionNumber(), Collections.singletonList(ideaId));
     }
 
+    /**
+     * 투표 용지 전체를 하나의 트랜잭션에서 저장한다.
+     * 투표 기록은 batch insert, 투표 수와 사용자 상태는 각각 한 번의 update 로 처리해
+     * 선택한 아이디어 수와 관계없이 일정한 횟수의 쿼리만 실행된다.
+     */
+    @Transactional
     public void ideasVote(User voter, List<Integer> ideaId) {
         if (!voter.isActivated()) {
             throw new UserForbiddenActionException();
         }
 
-        List<Idea> ideas = ideaRepository.findAllByIdeaIdIn(ideaId);
+        List<Idea> ideas = ideaRepository.findAllWithDetailsByIdeaIdIn(ideaId);
 
         ideas.stream().findFirst()
                 .ifPresent(idea -> checkValidPeriodForAction(voter, idea.getSession(), Period.PeriodType.IDEA_VOTE));
 
-        ideas.stream().forEach(idea -> {
-            idea.vote();
-            ideaVoteRepository.save(new IdeaVote(idea.getIdeaId(), idea.getSession().getSessionNumber(), voter.getUuid()));
-            ideaRepository.save(idea);
-        });
-
-        voter.updateVoteCount(ideas.size());
-        if (!voter.isVoted()) {
-            voter.updateVoted(true);
+        if (!ideas.isEmpty()) {
+            List<IdeaVote> ideaVotes = ideas.stream()
+                    .map(idea -> new IdeaVote(idea.getIdeaId(), idea.getSession().getSessionNumber(), voter.getUuid()))
+                    .collect(Collectors.toList());
+            ideaVoteRepository.saveAllInBatch(ideaVotes);
+            ideaRepository.increaseVoteNumbers(ideas.stream().map(Idea::getIdeaId).collect(Collectors.toList()));
+            ideas.stream().collect(Collectors.groupingBy(idea -> idea.getSession().getSessionNumber(),
+                    Collectors.mapping(Idea::getIdeaId, Collectors.toList())))
+                    .forEach(voteTallyBroadcaster::markVoted);
         }
-
-        userRepository.save(voter);
+        userRepository.updateVoted(voter.getUuid(), ideas.size());
+        AfterCommit.run(() -> principalCache.invalidate(voter.getUuid()));
+        evictSnapshots(ideas);
     }
 
     public List<VotedIdeaResponse> votedIdeas(User user, Integer sessionNumber) {
@@ -205,9 +320,11 @@ public class IdeaService {
                 .stream().map(ideaVote -> ideaVote.getIdeaId())
                 .collect(Collectors.toList());
 
-        return ideaRepository.findAllByIdeaIdIn(votedIdeaIds).stream()
-                .map(VotedIdeaResponse::of)
-                .collect(Collectors.toList());
+        if (votedIdeaIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return ideaRepository.findVotedIdeasByIdeaIdIn(votedIdeaIds);
     }
 
     public void checkValidPeriodForAction(User user, Session session, Period.PeriodType periodType) {
@@ -228,9 +345,11 @@ public class IdeaService {
             throw new IllegalArgumentException("해당 아이디어의 작성자가 아닙니다");
         }
 
+        List<User> changedMembers = new ArrayList<>(idea.getMembers());
         idea.getMembers().forEach(member -> member.updateHasTeam(false));
 
         ideaRepository.save(idea);
+        principalCache.invalidateAll(idea.getMembers().stream().map(User::getUuid).collect(Collectors.toList()));
 
         List<User> users = userRepository.findAllByUuidIn(request.getUuids());
 
@@ -247,6 +366,10 @@ public class IdeaService {
         idea.addMember(newMembers);
 
         ideaRepository.save(idea);
+        sessionSnapshotCache.evict(idea.getSession().getSessionNumber());
+        principalCache.invalidateAll(request.getUuids());
+        changedMembers.addAll(idea.getMembers());
+        userDirectoryIndex.index(changedMembers);
 
         return newMembers.stream().map(MemberResponse::createMemberFrom).collect(Collectors.toList());
     }
@@ -263,6 +386,7 @@ public class IdeaService {
                 }).collect(Collectors.toList());
 
         ideaRepository.saveAll(selectedIdeas);
+        evictSnapshots(selectedIdeas);
     }
 
     public void ideaDeselect(User user, List<Integer> ideaids) {
@@ -277,6 +401,11 @@ public class IdeaService {
                 }).collect(Collectors.toList());
 
         ideaRepository.saveAll(selectedIdeas);
+        evictSnapshots(selectedIdeas);
     }
-}
 
+    private void evictSnapshots(List<Idea> ideas) {
+        ideas.stream().map(idea -> idea.getSession().getSessionNumber()).distinct()
+                .forEach(sessionSnapshotCache::evict);
+    }
+}
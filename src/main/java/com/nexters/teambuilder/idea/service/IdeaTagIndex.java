@@ -0,0 +1,202 @@
+package com.nexters.teambuilder.idea.service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.nexters.teambuilder.common.transaction.AfterCommit;
+import com.nexters.teambuilder.idea.api.dto.IdeaTagDocument;
+import com.nexters.teambuilder.idea.api.dto.IdeaTagFilterRequest;
+import com.nexters.teambuilder.idea.domain.IdeaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 태그별, 기수별 ideaId bitmap.
+ * 여러 태그의 AND/OR 필터와 태그별 아이디어 수를 bitmap 연산만으로 계산한다.
+ * ideaId 는 DB 의 IDENTITY 값이라 촘촘하므로 {@link BitSet} 을 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdeaTagIndex {
+    private final IdeaRepository ideaRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Integer, BitSet> ideasByTag = new HashMap<>();
+
+    private final Map<Integer, BitSet> ideasBySession = new HashMap<>();
+
+    // 아이디어 수정/삭제 시 기존 bit 를 지우기 위해 보관한다.
+    private final Map<Integer, IndexedIdea> ideas = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<IdeaTagDocument> documents = ideaRepository.findAllTagDocuments();
+
+        lock.writeLock().lock();
+        try {
+            ideasByTag.clear();
+            ideasBySession.clear();
+            ideas.clear();
+            for (IdeaTagDocument document : documents) {
+                IndexedIdea idea = ideas.computeIfAbsent(document.getIdeaId(),
+                        ideaId -> new IndexedIdea(document.getSessionId()));
+                if (document.getTagId() != null) {
+                    idea.tagIds.add(document.getTagId());
+                }
+            }
+            ideas.forEach(this::set);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("idea tag index rebuilt: {} ideas, {} tags", ideas.size(), ideasByTag.size());
+    }
+
+    public void index(Integer ideaId, Integer sessionId, Collection<Integer> tagIds) {
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                clear(ideaId);
+                IndexedIdea idea = new IndexedIdea(sessionId);
+                idea.tagIds.addAll(tagIds);
+                ideas.put(ideaId, idea);
+                set(ideaId, idea);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void delete(Integer ideaId) {
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                clear(ideaId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void deleteTag(Integer tagId) {
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                ideasByTag.remove(tagId);
+                ideas.values().forEach(idea -> idea.tagIds.remove(tagId));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * @return 조건에 맞는 ideaId 목록, 최신순
+     */
+    public List<Integer> filter(List<Integer> tagIds, IdeaTagFilterRequest.Match match, Integer sessionId) {
+        BitSet result;
+        lock.readLock().lock();
+        try {
+            result = match == IdeaTagFilterRequest.Match.ANY ? union(tagIds) : intersection(tagIds);
+            if (sessionId != null) {
+                result.and(ideasBySession.getOrDefault(sessionId, new BitSet()));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Integer> ideaIds = new ArrayList<>(result.cardinality());
+        for (int ideaId = result.previousSetBit(result.length()); ideaId >= 0;
+             ideaId = result.previousSetBit(ideaId - 1)) {
+            ideaIds.add(ideaId);
+        }
+        return ideaIds;
+    }
+
+    /**
+     * @param sessionId 기수 id, null 이면 전체 아이디어 기준
+     * @return tagId 별 아이디어 수, 아이디어가 없는 태그는 포함하지 않는다
+     */
+    public Map<Integer, Integer> facetCounts(Integer sessionId) {
+        Map<Integer, Integer> counts = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            BitSet sessionIdeas = sessionId == null ? null : ideasBySession.getOrDefault(sessionId, new BitSet());
+            ideasByTag.forEach((tagId, tagIdeas) -> {
+                int count = sessionIdeas == null ? tagIdeas.cardinality() : countAnd(tagIdeas, sessionIdeas);
+                if (count > 0) {
+                    counts.put(tagId, count);
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        return counts;
+    }
+
+    private BitSet intersection(List<Integer> tagIds) {
+        BitSet result = null;
+        for (Integer tagId : tagIds) {
+            BitSet tagIdeas = ideasByTag.get(tagId);
+            if (tagIdeas == null) {
+                return new BitSet();
+            }
+            if (result == null) {
+                result = (BitSet) tagIdeas.clone();
+            } else {
+                result.and(tagIdeas);
+            }
+        }
+        return result == null ? new BitSet() : result;
+    }
+
+    private BitSet union(List<Integer> tagIds) {
+        BitSet result = new BitSet();
+        tagIds.stream().map(ideasByTag::get).filter(tagIdeas -> tagIdeas != null).forEach(result::or);
+        return result;
+    }
+
+    private static int countAnd(BitSet left, BitSet right) {
+        BitSet result = (BitSet) left.clone();
+        result.and(right);
+        return result.cardinality();
+    }
+
+    private void set(Integer ideaId, IndexedIdea idea) {
+        ideasBySession.computeIfAbsent(idea.sessionId, key -> new BitSet()).set(ideaId);
+        idea.tagIds.forEach(tagId -> ideasByTag.computeIfAbsent(tagId, key -> new BitSet()).set(ideaId));
+    }
+
+    private void clear(Integer ideaId) {
+        IndexedIdea idea = ideas.remove(ideaId);
+        if (idea == null) {
+            return;
+        }
+
+        ideasBySession.computeIfPresent(idea.sessionId, (key, sessionIdeas) -> {
+            sessionIdeas.clear(ideaId);
+            return sessionIdeas.isEmpty() ? null : sessionIdeas;
+        });
+        idea.tagIds.forEach(tagId -> ideasByTag.computeIfPresent(tagId, (key, tagIdeas) -> {
+            tagIdeas.clear(ideaId);
+            return tagIdeas.isEmpty() ? null : tagIdeas;
+        }));
+    }
+
+    @RequiredArgsConstructor
+    private static class IndexedIdea {
+        private final Integer sessionId;
+
+        private final List<Integer> tagIds = new ArrayList<>();
+    }
+}
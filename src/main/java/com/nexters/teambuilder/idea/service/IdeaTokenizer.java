@@ -0,0 +1,86 @@
+package com.nexters.teambuilder.idea.service;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 검색용 tokenizer. 띄어쓰기와 조사가 섞인 한글은 음절 bigram 으로, 영문과 숫자는 소문자 단어로 나눈다.
+ * 색인할 때는 한 음절 검색어("앱")도 찾을 수 있도록 한글 음절 unigram 을 낮은 가중치로 함께 넣는다.
+ */
+final class IdeaTokenizer {
+    static final int TERM_WEIGHT = 2;
+    static final int UNIGRAM_WEIGHT = 1;
+
+    private IdeaTokenizer() {
+    }
+
+    /**
+     * 검색어용. 두 음절 이상의 한글은 bigram 으로만 나눠 음절 하나만 겹치는 아이디어는 찾지 않는다.
+     * @return term 별 등장 횟수
+     */
+    static Map<String, Integer> tokenize(String text) {
+        return tokenize(text, 1, 0);
+    }
+
+    /**
+     * 색인용. bigram 과 단어는 TERM_WEIGHT, 한글 음절 unigram 은 UNIGRAM_WEIGHT 만큼 센다.
+     * @return term 별 가중치가 적용된 등장 횟수
+     */
+    static Map<String, Integer> tokenizeForIndex(String text) {
+        return tokenize(text, TERM_WEIGHT, UNIGRAM_WEIGHT);
+    }
+
+    private static Map<String, Integer> tokenize(String text, int termWeight, int unigramWeight) {
+        Map<String, Integer> terms = new HashMap<>();
+        if (text == null) {
+            return terms;
+        }
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int start = 0;
+        while (start < length) {
+            char c = normalized.charAt(start);
+            if (!Character.isLetterOrDigit(c)) {
+                start++;
+                continue;
+            }
+
+            boolean hangul = isHangul(c);
+            int end = start + 1;
+            while (end < length && Character.isLetterOrDigit(normalized.charAt(end))
+                    && isHangul(normalized.charAt(end)) == hangul) {
+                end++;
+            }
+
+            if (hangul) {
+                addBigrams(normalized, start, end, termWeight, unigramWeight, terms);
+            } else {
+                terms.merge(normalized.substring(start, end), termWeight, Integer::sum);
+            }
+            start = end;
+        }
+        return terms;
+    }
+
+    private static void addBigrams(String text, int start, int end, int termWeight, int unigramWeight,
+                                   Map<String, Integer> terms) {
+        if (end - start == 1) {
+            terms.merge(text.substring(start, end), termWeight, Integer::sum);
+            return;
+        }
+        for (int i = start; i < end - 1; i++) {
+            terms.merge(text.substring(i, i + 2), termWeight, Integer::sum);
+        }
+        if (unigramWeight > 0) {
+            for (int i = start; i < end; i++) {
+                terms.merge(text.substring(i, i + 1), unigramWeight, Integer::sum);
+            }
+        }
+    }
+
+    private static boolean isHangul(char c) {
+        return Character.UnicodeBlock.of(c) == Character.UnicodeBlock.HANGUL_SYLLABLES;
+    }
+}
@@ -11,11 +11,14 @@ import com.nexters.teambuilder.session.api.dto.SessionRequest;
 import com.nexters.teambuilder.session.api.dto.SessionResponse;
 import com.nexters.teambuilder.session.domain.Session;
 import com.nexters.teambuilder.session.service.SessionService;
+import com.nexters.teambuilder.session.service.SessionSnapshotService;
+import com.nexters.teambuilder.session.service.VoteTallyBroadcaster;
 import com.nexters.teambuilder.tag.api.dto.TagResponse;
 import com.nexters.teambuilder.tag.service.TagService;
 import com.nexters.teambuilder.user.api.dto.SessionUserResponse;
 import com.nexters.teambuilder.user.domain.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -27,6 +30,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @CrossOrigin(origins = "*")
 @RestController
@@ -36,27 +40,26 @@ public class SessionController {
     private final SessionService sessionService;
     private final TagService tagService;
     private final IdeaService ideaService;
+    private final SessionSnapshotService sessionSnapshotService;
+    private final VoteTallyBroadcaster voteTallyBroadcaster;
 
     @GetMapping("{sessionNumber}")
     public BaseResponse<SessionResponse> get(@AuthenticationPrincipal User user, @PathVariable Integer sessionNumber) {
-        Session session = sessionService.getSession(sessionNumber);
-        List<TagResponse> tags = tagService.getTagList();
-        List<IdeaResponse> ideas = ideaService.getIdeaListBySessionId(session.getSessionId(), user);
-        List<VotedIdeaResponse> votedIdeas = ideaService.votedIdeas(user, sessionNumber);
-        List<SessionNumber> sessionNumbers = sessionService.sessionNumberList();
-
-        return new BaseResponse<>(200, 0,
-                SessionResponse.of(session, sessionNumbers, tags, ideas, votedIdeas));
+        return new BaseResponse<>(200, 0, sessionSnapshotService.getSession(user, sessionNumber));
     }
 
     @GetMapping("latest")
     public BaseResponse<SessionResponse> getLatest(@AuthenticationPrincipal User user) {
-        Session session = sessionService.getLatestSession();
-        List<TagResponse> tags = tagService.getTagList();
-        List<IdeaResponse> ideas = ideaService.getIdeaListBySessionId(session.getSessionId(), user);
-        List<VotedIdeaResponse> votedIdeas = ideaService.votedIdeas(user, session.getSessionNumber());
-        List<SessionNumber>  sessionNumbers = sessionService.sessionNumberList();
-        return new BaseResponse<>(200, 0, SessionResponse.of(session, sessionNumbers, tags, ideas, votedIdeas));
+        return new BaseResponse<>(200, 0, sessionSnapshotService.getLatestSession(user));
+    }
+
+    /**
+     * 기수의 투표 수 변경을 SSE 로 구독한다. 첫 이벤트는 전체 투표 수, 이후에는 변경된 아이디어만 전달된다.
+     */
+    @GetMapping(value = "{sessionNumber}/tally", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter tally(@PathVariable Integer sessionNumber) {
+        Session session = sessionService.getSession(sessionNumber);
+        return voteTallyBroadcaster.subscribe(session.getSessionId(), session.getSessionNumber());
     }
 
     @PostMapping
@@ -59,6 +59,21 @@ public class SessionResponse {
                 session.isTeamBuildingMode(), periods, tags, session.getMaxVoteCount(), ideas, votedIdeas);
     }
 
+    /**
+     * 캐시된 snapshot 으로 응답을 만든다. 진행중인 기간(now)은 요청 시점 기준으로 다시 계산한다.
+     */
+    public static SessionResponse of(SessionSnapshot snapshot, List<IdeaResponse> ideas,
+                                     List<VotedIdeaResponse> votedIdeas) {
+        List<PeriodResponse> periods =
+                snapshot.getPeriods().stream().map(PeriodResponse::of).collect(Collectors.toList());
+
+        nowIsNotMatchAnyPeriod(periods);
+
+        return new SessionResponse(snapshot.getSessionId(), snapshot.getSessionNumber(), snapshot.getSessionNumbers(),
+                snapshot.getLogoImageUrl(), snapshot.isTeamBuildingMode(), periods, snapshot.getTags(),
+                snapshot.getMaxVoteCount(), ideas, votedIdeas);
+    }
+
     private static void nowIsNotMatchAnyPeriod(List<PeriodResponse> periods) {
         if (!periods.stream().anyMatch(period -> period.isNow())) {
 
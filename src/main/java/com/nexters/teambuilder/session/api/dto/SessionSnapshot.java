@@ -0,0 +1,46 @@
+package com.nexters.teambuilder.session.api.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.nexters.teambuilder.idea.api.dto.IdeaResponse;
+import com.nexters.teambuilder.session.domain.Period;
+import com.nexters.teambuilder.session.domain.Session;
+import com.nexters.teambuilder.tag.api.dto.TagResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 모든 사용자에게 공통인 기수 화면 데이터.
+ * 즐겨찾기, 투표한 아이디어 같은 사용자별 데이터는 포함하지 않으며 캐시에 보관되므로 수정하지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public class SessionSnapshot {
+    private final Integer sessionId;
+
+    private final Integer sessionNumber;
+
+    private final List<SessionNumber> sessionNumbers;
+
+    private final String logoImageUrl;
+
+    private final boolean teamBuildingMode;
+
+    private final List<Period> periods;
+
+    private final List<TagResponse> tags;
+
+    private final Integer maxVoteCount;
+
+    private final List<IdeaResponse> ideas;
+
+    public static SessionSnapshot of(Session session, List<SessionNumber> sessionNumbers, List<TagResponse> tags,
+                                     List<IdeaResponse> ideas) {
+        return new SessionSnapshot(session.getSessionId(), session.getSessionNumber(),
+                Collections.unmodifiableList(sessionNumbers), session.getLogoImageUrl(),
+                session.isTeamBuildingMode(), Collections.unmodifiableList(new ArrayList<>(session.getPeriods())),
+                Collections.unmodifiableList(tags), session.getMaxVoteCount(), Collections.unmodifiableList(ideas));
+    }
+}
@@ -0,0 +1,50 @@
+package com.nexters.teambuilder.session.domain;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+import java.util.List;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
+
+import com.nexters.teambuilder.export.api.dto.SessionUserExportRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface SessionUserRepository extends JpaRepository<SessionUser, SessionUser.Id> {
+    boolean existsByIdSessionIdAndIdUuid(Integer sessionId, String uuid);
+
+    @Query("select su.id from SessionUser su")
+    List<SessionUser.Id> findAllIds();
+
+    /**
+     * 남은 투표 수가 있을 때만 투표 수를 증가시킨다.
+     * 확인과 증가가 하나의 update 로 처리되므로 동시에 투표해도 최대 투표 수를 넘지 않는다.
+     * @return 투표에 성공하면 1, 기수 회원이 아니거나 최대 투표 수를 모두 소모했으면 0
+     */
+    @Transactional
+    @Modifying
+    @Query("update SessionUser su set su.voteCount = su.voteCount + 1, su.voted = true"
+            + " where su.id.sessionId = :sessionId and su.id.uuid = :uuid and su.voteCount < :maxVoteCount")
+    int increaseVoteCount(@Param("sessionId") Integer sessionId, @Param("uuid") String uuid,
+                          @Param("maxVoteCount") int maxVoteCount);
+
+    /**
+     * 모든 기수 회원의 투표, 아이디어 제출, 팀 소속 상태를 초기화한다.
+     * @return 변경된 기수 회원 수
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update SessionUser su set su.voteCount = 0, su.voted = false, su.submitIdea = false, su.hasTeam = false")
+    int resetAll();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("select new com.nexters.teambuilder.export.api.dto.SessionUserExportRow(su.session.sessionNumber, "
+            + "su.user.uuid, su.user.id, su.user.name, su.user.nextersNumber, su.user.position, su.voteCount, "
+            + "su.voted, su.submitIdea, su.hasTeam) "
+            + "from SessionUser su where su.id.sessionId = :sessionId order by su.user.id")
+    Stream<SessionUserExportRow> streamExportRowsBySessionId(@Param("sessionId") Integer sessionId);
+}
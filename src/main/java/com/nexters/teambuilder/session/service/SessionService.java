@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import com.nexters.teambuilder.common.Service.SequenceService;
 import com.nexters.teambuilder.common.exception.ActionForbiddenException;
 import com.nexters.teambuilder.session.api.dto.SessionNumber;
 import com.nexters.teambuilder.session.api.dto.SessionRequest;
@@ -16,6 +17,7 @@ import com.nexters.teambuilder.user.api.dto.SessionUserResponse;
 import com.nexters.teambuilder.user.domain.User;
 import com.nexters.teambuilder.user.domain.UserRepository;
 import com.nexters.teambuilder.user.exception.UserNotFoundException;
+import com.nexters.teambuilder.user.service.UserDirectoryIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -24,6 +26,9 @@ import org.springframework.stereotype.Service;
 public class SessionService {
     private final SessionRepository sessionRepository;
     private final UserRepository userRepository;
+    private final SessionSnapshotCache sessionSnapshotCache;
+    private final SequenceService sequenceService;
+    private final UserDirectoryIndex userDirectoryIndex;
 
     public Session getSession(Integer sessionNumber) {
         return sessionRepository.findBySessionNumber(sessionNumber)
@@ -36,12 +41,14 @@ public class SessionService {
     }
 
     public Session createSession(SessionRequest sessionRequest) {
-        Integer latestSessionNumber = sessionRepository
-                .findTopByOrderBySessionNumberDesc().map(session -> session.getSessionNumber())
-                .orElse(0);
-
-        Session session = Session.of(latestSessionNumber + 1,sessionRequest);
-        return sessionRepository.save(session);
+        int sessionNumber = (int) sequenceService.next(SequenceService.SESSION_NUMBER,
+                () -> sessionRepository.findTopByOrderBySessionNumberDesc()
+                        .map(session -> session.getSessionNumber())
+                        .orElse(0) + 1);
+
+        Session session = sessionRepository.save(Session.of(sessionNumber, sessionRequest));
+        sessionSnapshotCache.evictAll();
+        return session;
     }
 
     public Session updateSession(Integer sessionNumber, SessionRequest sessionRequest) {
@@ -49,7 +56,9 @@ public class SessionService {
                 .orElseThrow(() -> new SessionNotFoundException(sessionNumber));
 
         session.update(sessionRequest);
-        return sessionRepository.save(session);
+        Session updatedSession = sessionRepository.save(session);
+        sessionSnapshotCache.evict(sessionNumber);
+        return updatedSession;
     }
 
     public void deleteSession(Integer sessionNumber, User user) {
@@ -61,6 +70,8 @@ public class SessionService {
                 .orElseThrow(() -> new SessionNotFoundException(sessionNumber));
 
         sessionRepository.delete(session);
+        sessionSnapshotCache.evictAll();
+        userDirectoryIndex.removeSession(session.getSessionId());
     }
 
     public List<SessionNumber> sessionNumberList() {
@@ -77,7 +88,9 @@ public class SessionService {
 
         addSessionUserToSession(session, uuids);
 
-        return sessionRepository.save(session).getSessionUsers()
+        Session saved = sessionRepository.save(session);
+        userDirectoryIndex.addSessionMembers(session.getSessionId(), uuids);
+        return saved.getSessionUsers()
                 .stream()
                 .map(sessionUser -> new SessionUserResponse(sessionUser))
                 .collect(Collectors.toList());
@@ -91,7 +104,9 @@ public class SessionService {
             session.getSessionUsers().stream().filter(sessionUser -> sessionUser.getId().getUuid().equals(uuid))
                     .findFirst().ifPresent(sessionUser -> session.getSessionUsers().remove(sessionUser)));
 
-        return sessionRepository.save(session).getSessionUsers()
+        Session saved = sessionRepository.save(session);
+        userDirectoryIndex.removeSessionMembers(session.getSessionId(), uuids);
+        return saved.getSessionUsers()
                 .stream()
                 .map(sessionUser -> new SessionUserResponse(sessionUser))
                 .collect(Collectors.toList());
@@ -0,0 +1,71 @@
+package com.nexters.teambuilder.session.service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.nexters.teambuilder.common.transaction.AfterCommit;
+import com.nexters.teambuilder.session.api.dto.SessionSnapshot;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기수 번호별 {@link SessionSnapshot} 캐시.
+ * 같은 기수에 대한 동시 요청은 한 번만 적재되며, 아이디어/투표/태그/기수 변경과
+ * 아이디어 작성자/팀원으로 표시되는 회원 정보가 바뀔 때 evict 된다.
+ * 적재는 map 의 lock 밖에서 실행되고, 동시에 들어온 요청은 먼저 등록된 future 를 기다린다.
+ */
+@Component
+public class SessionSnapshotCache {
+    private final Map<Integer, CompletableFuture<SessionSnapshot>> snapshots = new ConcurrentHashMap<>();
+
+    private final AtomicReference<Integer> latestSessionNumber = new AtomicReference<>();
+
+    public SessionSnapshot get(Integer sessionNumber, Function<Integer, SessionSnapshot> loader) {
+        CompletableFuture<SessionSnapshot> snapshot = snapshots.get(sessionNumber);
+        if (snapshot == null) {
+            CompletableFuture<SessionSnapshot> loading = new CompletableFuture<>();
+            snapshot = snapshots.putIfAbsent(sessionNumber, loading);
+            if (snapshot == null) {
+                snapshot = loading;
+                try {
+                    loading.complete(loader.apply(sessionNumber));
+                } catch (RuntimeException e) {
+                    snapshots.remove(sessionNumber, loading);
+                    loading.completeExceptionally(e);
+                    throw e;
+                }
+            }
+        }
+
+        try {
+            return snapshot.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    public Integer getLatestSessionNumber(Supplier<Integer> loader) {
+        return latestSessionNumber.updateAndGet(sessionNumber -> sessionNumber != null ? sessionNumber : loader.get());
+    }
+
+    public void evict(Integer sessionNumber) {
+        AfterCommit.run(() -> snapshots.remove(sessionNumber));
+    }
+
+    /**
+     * 기수 목록이나 태그처럼 모든 기수 화면에 포함되는 데이터가 바뀌었을 때 사용한다.
+     */
+    public void evictAll() {
+        AfterCommit.run(() -> {
+            latestSessionNumber.set(null);
+            snapshots.clear();
+        });
+    }
+}
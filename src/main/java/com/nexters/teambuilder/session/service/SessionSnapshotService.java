@@ -0,0 +1,55 @@
+package com.nexters.teambuilder.session.service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.nexters.teambuilder.idea.api.dto.IdeaResponse;
+import com.nexters.teambuilder.idea.api.dto.VotedIdeaResponse;
+import com.nexters.teambuilder.idea.service.IdeaService;
+import com.nexters.teambuilder.session.api.dto.SessionResponse;
+import com.nexters.teambuilder.session.api.dto.SessionSnapshot;
+import com.nexters.teambuilder.session.domain.Session;
+import com.nexters.teambuilder.tag.service.TagService;
+import com.nexters.teambuilder.user.domain.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@RequiredArgsConstructor
+@Service
+public class SessionSnapshotService {
+    private final SessionService sessionService;
+    private final TagService tagService;
+    private final IdeaService ideaService;
+    private final SessionSnapshotCache sessionSnapshotCache;
+
+    public SessionResponse getSession(User user, Integer sessionNumber) {
+        return withUserOverlay(user, sessionSnapshotCache.get(sessionNumber, this::loadSnapshot));
+    }
+
+    public SessionResponse getLatestSession(User user) {
+        Integer sessionNumber = sessionSnapshotCache.getLatestSessionNumber(
+                () -> sessionService.getLatestSession().getSessionNumber());
+        return getSession(user, sessionNumber);
+    }
+
+    private SessionSnapshot loadSnapshot(Integer sessionNumber) {
+        Session session = sessionService.getSession(sessionNumber);
+        return SessionSnapshot.of(session, sessionService.sessionNumberList(), tagService.getTagList(),
+                ideaService.getIdeaListBySessionId(session.getSessionId()));
+    }
+
+    /**
+     * 공통 snapshot 에 사용자의 즐겨찾기와 투표한 아이디어를 덧붙인다.
+     * 캐시된 아이디어는 공유되므로 즐겨찾기한 아이디어만 복사해 표시한다.
+     */
+    private SessionResponse withUserOverlay(User user, SessionSnapshot snapshot) {
+        Set<Integer> favoriteIdeaIds = ideaService.favoriteIdeaIds(user);
+        List<IdeaResponse> ideas = snapshot.getIdeas().stream()
+                .map(idea -> favoriteIdeaIds.contains(idea.getIdeaId()) ? idea.withFavorite(true) : idea)
+                .collect(Collectors.toList());
+        List<VotedIdeaResponse> votedIdeas = ideaService.votedIdeas(user, snapshot.getSessionNumber());
+
+        return SessionResponse.of(snapshot, ideas, votedIdeas);
+    }
+}
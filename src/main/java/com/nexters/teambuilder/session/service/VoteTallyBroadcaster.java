@@ -0,0 +1,178 @@
+package com.nexters.teambuilder.session.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.PreDestroy;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.nexters.teambuilder.common.transaction.AfterCommit;
+import com.nexters.teambuilder.idea.api.dto.VoteTally;
+import com.nexters.teambuilder.idea.domain.IdeaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 기수별 투표 수 변경을 SSE 로 전달한다.
+ * 투표가 일어나면 변경된 ideaId 만 모아두고, 주기마다 기수당 한 번 조회해 모든 구독자에게 같은 delta 를 보낸다.
+ * 전송은 전용 thread pool 에서 하므로 느린 구독자가 scheduler thread 를 막지 않는다.
+ * 이전 주기의 전송이 아직 끝나지 않은 구독자는 느린 연결로 보고 구독 목록에서 뺀다.
+ */
+@Slf4j
+@Component
+public class VoteTallyBroadcaster {
+    static final String TALLY_EVENT = "tally";
+
+    private final IdeaRepository ideaRepository;
+
+    private final long timeoutMillis;
+
+    private final Map<Integer, Channel> channels = new ConcurrentHashMap<>();
+
+    private final ThreadPoolExecutor sender;
+
+    public VoteTallyBroadcaster(IdeaRepository ideaRepository,
+                                @Value("${tally.timeout-sec:1800}") final int timeoutSec,
+                                @Value("${tally.sender.pool-size:4}") final int senderPoolSize,
+                                @Value("${tally.sender.queue-capacity:1024}") final int senderQueueCapacity) {
+        this.ideaRepository = ideaRepository;
+        this.timeoutMillis = timeoutSec * 1000L;
+        this.sender = new ThreadPoolExecutor(senderPoolSize, senderPoolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(senderQueueCapacity),
+                new ThreadFactoryBuilder().setNameFormat("tally-sender-%d").setDaemon(true).build(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 구독을 시작하며 현재 투표 수 전체를 첫 이벤트로 보낸다.
+     */
+    public SseEmitter subscribe(Integer sessionId, Integer sessionNumber) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter);
+        Channel channel = channels.compute(sessionNumber, (key, current) -> {
+            Channel subscribed = current != null ? current : new Channel();
+            subscribed.subscribers.add(subscriber);
+            return subscribed;
+        });
+
+        emitter.onCompletion(() -> channel.subscribers.remove(subscriber));
+        emitter.onTimeout(() -> channel.subscribers.remove(subscriber));
+        emitter.onError(e -> channel.subscribers.remove(subscriber));
+
+        send(channel, subscriber, ideaRepository.findVoteTalliesBySessionId(sessionId));
+        return emitter;
+    }
+
+    /**
+     * 투표된 아이디어를 다음 broadcast 대상에 추가한다. 구독자가 없는 기수는 무시한다.
+     */
+    public void markVoted(Integer sessionNumber, Collection<Integer> ideaIds) {
+        AfterCommit.run(() -> {
+            Channel channel = channels.get(sessionNumber);
+            if (channel != null) {
+                channel.votedIdeaIds.addAll(ideaIds);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${tally.broadcast-interval-ms:1000}")
+    public void broadcast() {
+        channels.forEach((sessionNumber, channel) -> {
+            if (channel.subscribers.isEmpty()) {
+                channels.computeIfPresent(sessionNumber,
+                        (key, current) -> current.subscribers.isEmpty() ? null : current);
+                return;
+            }
+
+            List<Integer> ideaIds = channel.drainVotedIdeaIds();
+            if (ideaIds.isEmpty()) {
+                return;
+            }
+
+            List<VoteTally> tallies = ideaRepository.findVoteTalliesByIdeaIdIn(ideaIds);
+            channel.subscribers.forEach(subscriber -> sendAsync(channel, subscriber, tallies));
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+    }
+
+    private void sendAsync(Channel channel, Subscriber subscriber, List<VoteTally> tallies) {
+        if (!subscriber.sending.compareAndSet(false, true)) {
+            // 진행중인 전송이 끝나면 그 thread 에서 연결을 닫아 client 가 다시 구독하게 한다.
+            log.debug("tally subscriber too slow, dropped");
+            subscriber.dropped = true;
+            channel.subscribers.remove(subscriber);
+            return;
+        }
+
+        try {
+            sender.execute(() -> {
+                try {
+                    send(channel, subscriber, tallies);
+                } finally {
+                    subscriber.sending.set(false);
+                    if (subscriber.dropped) {
+                        subscriber.emitter.complete();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("tally sender queue full, subscriber dropped");
+            channel.subscribers.remove(subscriber);
+        }
+    }
+
+    private void send(Channel channel, Subscriber subscriber, List<VoteTally> tallies) {
+        try {
+            subscriber.emitter.send(SseEmitter.event().name(TALLY_EVENT).data(tallies));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("tally subscriber disconnected: {}", e.getMessage());
+            channel.subscribers.remove(subscriber);
+        }
+    }
+
+    private static class Subscriber {
+        private final SseEmitter emitter;
+
+        /** 이전 broadcast 의 전송이 아직 진행중이면 true */
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        private volatile boolean dropped;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+
+    private static class Channel {
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+        private final Set<Integer> votedIdeaIds = ConcurrentHashMap.newKeySet();
+
+        private List<Integer> drainVotedIdeaIds() {
+            List<Integer> ideaIds = new ArrayList<>();
+            for (Integer ideaId : votedIdeaIds) {
+                if (votedIdeaIds.remove(ideaId)) {
+                    ideaIds.add(ideaId);
+                }
+            }
+            return ideaIds;
+        }
+    }
+}
@@ -4,6 +4,8 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import com.nexters.teambuilder.idea.service.IdeaTagIndex;
+import com.nexters.teambuilder.session.service.SessionSnapshotCache;
 import com.nexters.teambuilder.tag.api.dto.TagRequest;
 import com.nexters.teambuilder.tag.api.dto.TagResponse;
 import com.nexters.teambuilder.tag.domain.Tag;
@@ -16,11 +18,14 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class TagService {
     private final TagRepository tagRepository;
+    private final SessionSnapshotCache sessionSnapshotCache;
+    private final IdeaTagIndex ideaTagIndex;
 
     public TagResponse createTag(TagRequest request) {
         Tag tag = tagRepository.save(Tag.of(request));
+        sessionSnapshotCache.evictAll();
 
-        return TagResponse.of(tagRepository.save(tag));
+        return TagResponse.of(tag);
     }
 
     public TagResponse getTag(Integer tagId) {
@@ -35,7 +40,9 @@ public class TagService {
 
         tag.update(request);
 
-        return TagResponse.of(tagRepository.save(tag));
+        Tag updatedTag = tagRepository.save(tag);
+        sessionSnapshotCache.evictAll();
+        return TagResponse.of(updatedTag);
     }
 
     public List<TagResponse> getTagList() {
@@ -49,5 +56,7 @@ public class TagService {
         Tag tag = tagRepository.findById(tagId)
                 .orElseThrow(() -> new TagNotFoundException(tagId));
         tagRepository.delete(tag);
+        sessionSnapshotCache.evictAll();
+        ideaTagIndex.deleteTag(tagId);
     }
 }
@@ -1,27 +1,46 @@
 package com.nexters.teambuilder.user.api;
 
 import com.nexters.teambuilder.common.response.BaseResponse;
+import com.nexters.teambuilder.idea.api.dto.MemberResponse;
 import com.nexters.teambuilder.user.api.dto.*;
 import com.nexters.teambuilder.user.domain.User;
+import com.nexters.teambuilder.user.service.UserImportService;
 import com.nexters.teambuilder.user.service.UserService;
 import io.swagger.annotations.ApiImplicitParam;
 import io.swagger.annotations.ApiImplicitParams;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.apache.commons.lang3.StringUtils.removeStart;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
 
 @CrossOrigin(origins = "*")
 @RestController
 @RequiredArgsConstructor
 public class UserController {
+    /**
+     * Spring Data 의 최대 page 크기. 회원 목록은 전체 개수 없이 목록만 돌려주므로,
+     * 받은 회원 수가 size 와 같으면 다음 page 를 요청해야 한다.
+     */
+    static final int DEFAULT_USER_PAGE_SIZE = 2000;
+
     private final UserService userService;
 
+    private final UserImportService userImportService;
+
     @ApiOperation(value = "회원가입")
     @ApiImplicitParams({
             @ApiImplicitParam(name = "id", value = "originman", required = true, dataType = "string", paramType = "body"),
@@ -50,21 +69,44 @@ public class UserController {
     }
 
     @PostMapping("/users/sign-in")
-    public BaseResponse<SignInResponse> signIn(@RequestParam String id, @RequestParam String password) {
-        SignInResponse signIn = userService.signIn(id, password);
+    public CompletableFuture<BaseResponse<SignInResponse>> signIn(@RequestParam String id,
+                                                                 @RequestParam String password) {
+        return userService.signIn(id, password)
+                .thenApply(signIn -> new BaseResponse<>(200, 0, signIn));
+    }
+
+    @PostMapping("/users/token/refresh")
+    public BaseResponse<SignInResponse> refresh(@RequestParam String refreshToken) {
+        SignInResponse signIn = userService.refresh(refreshToken);
 
         return new BaseResponse<>(200, 0, signIn);
     }
 
+    @PostMapping("apis/users/logout")
+    public BaseResponse logout(@RequestHeader(AUTHORIZATION) String authorization,
+                               @RequestParam(required = false) String refreshToken) {
+        userService.logout(removeStart(authorization, "Bearer").trim(), refreshToken);
+
+        return new BaseResponse<>(200, 0, null);
+    }
+
     @GetMapping("apis/users")
-    public BaseResponse<List<UserResponse>> userList() {
-        List<UserResponse> userResponses = userService.userList();
+    public BaseResponse<List<UserResponse>> userList(
+            @PageableDefault(size = DEFAULT_USER_PAGE_SIZE, sort = {"createdAt", "uuid"}) Pageable pageable) {
+        List<UserResponse> userResponses = userService.userList(pageable);
         return new BaseResponse<>(200, 0, userResponses);
     }
 
+    @GetMapping("apis/users/search")
+    public BaseResponse<List<MemberResponse>> searchUsers(@Valid UserSearchRequest request) {
+        List<MemberResponse> members = userService.searchUsers(request);
+        return new BaseResponse<>(200, 0, members);
+    }
+
     @GetMapping("apis/activated/users")
-    public BaseResponse<List<UserResponse>> activatedUserList() {
-        List<UserResponse> userResponses = userService.activatedUserList();
+    public BaseResponse<List<UserResponse>> activatedUserList(
+            @PageableDefault(size = DEFAULT_USER_PAGE_SIZE, sort = {"createdAt", "uuid"}) Pageable pageable) {
+        List<UserResponse> userResponses = userService.activatedUserList(pageable);
         return new BaseResponse<>(200, 0, userResponses);
     }
 
@@ -97,10 +139,11 @@ public class UserController {
     }
 
     @PutMapping("apis/users/deactivate/all")
-    public BaseResponse<List<UserResponse>> deactivateAllUsers() {
-        List<UserResponse> users = userService.deactivateAllUsers();
+    public BaseResponse<DeactivateAllResponse> deactivateAllUsers(
+            @RequestParam(defaultValue = "false") boolean withUsers) {
+        DeactivateAllResponse response = userService.deactivateAllUsers(withUsers);
 
-        return new BaseResponse<>(200, 0, users);
+        return new BaseResponse<>(200, 0, response);
     }
 
     @PutMapping("apis/users")
@@ -110,6 +153,17 @@ public class UserController {
         return new BaseResponse<>(200, 0, null);
     }
 
+    @PostMapping(value = "apis/users/import",
+            consumes = {UserImportService.TEXT_CSV, UserImportService.APPLICATION_NDJSON})
+    public BaseResponse<UserImportResponse> importUsers(@AuthenticationPrincipal User user,
+                                                        @RequestHeader(CONTENT_TYPE) String contentType,
+                                                        @RequestParam(required = false) Integer sessionNumber,
+                                                        InputStream body) throws IOException {
+        UserImportResponse response = userImportService.importUsers(user, body, contentType, sessionNumber);
+
+        return new BaseResponse<>(200, 0, response);
+    }
+
     @PutMapping("apis/users/dismiss")
     public BaseResponse dismiss(@AuthenticationPrincipal User user,
                                 @RequestBody UserDismissRequest request) {
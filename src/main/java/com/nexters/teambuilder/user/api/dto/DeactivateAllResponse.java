@@ -0,0 +1,20 @@
+package com.nexters.teambuilder.user.api.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class DeactivateAllResponse {
+    private int deactivatedCount;
+
+    private int sessionUserResetCount;
+
+    private List<UserResponse> users;
+}
@@ -12,5 +12,6 @@ import lombok.Setter;
 @NoArgsConstructor
 public class SignInResponse {
     private String accessToken;
+    private String refreshToken;
     private User.Role role;
 }
@@ -0,0 +1,19 @@
+package com.nexters.teambuilder.user.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserImportError {
+    // 업로드한 파일의 줄 번호 (1부터 시작, CSV header 포함)
+    private long line;
+
+    private String id;
+
+    private String message;
+}
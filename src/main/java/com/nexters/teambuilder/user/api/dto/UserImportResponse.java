@@ -0,0 +1,21 @@
+package com.nexters.teambuilder.user.api.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserImportResponse {
+    private int importedCount;
+
+    private int failedCount;
+
+    // 실패한 행 중 앞쪽 일부만 담는다. 전체 실패 수는 failedCount
+    private List<UserImportError> errors;
+}
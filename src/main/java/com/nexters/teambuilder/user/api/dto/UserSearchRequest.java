@@ -0,0 +1,30 @@
+package com.nexters.teambuilder.user.api.dto;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+
+import com.nexters.teambuilder.user.domain.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserSearchRequest {
+    @NotBlank
+    private String q;
+
+    private User.Position position;
+
+    private Boolean hasTeam;
+
+    private Integer sessionId;
+
+    @Min(1)
+    @Max(100)
+    private int size = 20;
+}
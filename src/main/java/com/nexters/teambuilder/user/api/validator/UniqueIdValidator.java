@@ -1,11 +1,9 @@
 package com.nexters.teambuilder.user.api.validator;
 
-import java.util.Optional;
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 
 import com.nexters.teambuilder.user.api.annotation.UniqueId;
-import com.nexters.teambuilder.user.domain.User;
 import com.nexters.teambuilder.user.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -20,12 +18,8 @@ public class UniqueIdValidator implements ConstraintValidator<UniqueId, String>
 
     @Override
     public boolean isValid(String id, ConstraintValidatorContext context) {
-        boolean isValid;
-        Optional<User> optionalUser = userService.findById(id);
-
-        isValid = !optionalUser.isPresent();
+        boolean isValid = userService.isIdUsable(id);
         if (!isValid) {
-            User user = optionalUser.get();
             context.disableDefaultConstraintViolation();
                     context.buildConstraintViolationWithTemplate("error.id.unique")
                             .addConstraintViolation();
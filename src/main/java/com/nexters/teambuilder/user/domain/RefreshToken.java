@@ -0,0 +1,32 @@
+package com.nexters.teambuilder.user.domain;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 발급된 refresh token. token 원문 대신 SHA-256 digest(hex) 를 key 로 보관한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(indexes = {
+        @Index(name = "ix_refresh_token_uuid", columnList = "uuid"),
+        @Index(name = "ix_refresh_token_expires_at", columnList = "expiresAt")})
+public class RefreshToken {
+    @Id
+    @Column(length = 64)
+    private String digest;
+
+    @Column(columnDefinition = "VARCHAR(191)", nullable = false)
+    private String uuid;
+
+    private long expiresAt;
+}
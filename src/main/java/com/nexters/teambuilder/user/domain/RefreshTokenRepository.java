@@ -0,0 +1,28 @@
+package com.nexters.teambuilder.user.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+    /**
+     * 여러 요청이나 노드가 같은 token 을 동시에 사용해도 한 곳에서만 1 을 돌려받는다.
+     * @return 삭제된 row 수, 이미 사용한 token 이면 0
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from RefreshToken r where r.digest = :digest")
+    int deleteByDigest(@Param("digest") String digest);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from RefreshToken r where r.uuid = :uuid")
+    int deleteByUuid(@Param("uuid") String uuid);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from RefreshToken r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") long now);
+}
@@ -0,0 +1,34 @@
+package com.nexters.teambuilder.user.domain;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 폐기된 access token 또는 사용자. key 는 "T" + token 서명, "U" + uuid 형식이다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(indexes = {
+        @Index(name = "ix_token_revocation_expires_at", columnList = "expiresAt"),
+        @Index(name = "ix_token_revocation_revoked_at", columnList = "revokedAt")})
+public class TokenRevocation {
+    @Id
+    @Column(name = "revocation_key", columnDefinition = "VARCHAR(191)")
+    private String key;
+
+    /** 사용자 폐기일 때 이 시각(초) 이전에 발급된 token 이 폐기된다. token 폐기면 0 */
+    private long issuedBeforeSec;
+
+    private long expiresAt;
+
+    private long revokedAt;
+}
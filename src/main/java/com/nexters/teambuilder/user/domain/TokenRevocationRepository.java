@@ -0,0 +1,20 @@
+package com.nexters.teambuilder.user.domain;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, String> {
+    List<TokenRevocation> findByExpiresAtGreaterThan(long now);
+
+    List<TokenRevocation> findByRevokedAtGreaterThanEqualAndExpiresAtGreaterThan(long revokedSince, long now);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from TokenRevocation r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") long now);
+}
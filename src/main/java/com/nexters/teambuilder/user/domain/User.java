@@ -23,8 +23,12 @@ import java.util.Set;
 @Getter
 @NoArgsConstructor
 @Table(uniqueConstraints = {
-        @UniqueConstraint(name = "ux_user_id", columnNames = "id")})
+        @UniqueConstraint(name = User.ID_UNIQUE_CONSTRAINT, columnNames = "id")},
+        indexes = {
+        @Index(name = "ix_user_role_dissmissed_activated", columnList = "role, dissmissed, activated")})
 public class User implements UserDetails {
+    public static final String ID_UNIQUE_CONSTRAINT = "ux_user_id";
+
     public enum Role{
         ROLE_ADMIN, ROLE_USER
     }
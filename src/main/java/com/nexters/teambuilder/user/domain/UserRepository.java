@@ -1,18 +1,85 @@
 package com.nexters.teambuilder.user.domain;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 
+import com.nexters.teambuilder.idea.api.dto.MemberResponse;
+import com.nexters.teambuilder.user.api.dto.UserResponse;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
     Optional<User> findUserByUuid(String uuid);
 
     Optional<User> findUserById(String id);
 
     boolean existsById(String id);
 
+    @Query("select u.id from User u")
+    List<String> findAllIds();
+
     List<User> findAllByUuidIn(List<String> ids);
 
+    @Query("select u.id from User u where u.id in :ids")
+    List<String> findIdsByIdIn(@Param("ids") Collection<String> ids);
+
+    @Query(value = "select new com.nexters.teambuilder.user.api.dto.UserResponse(u.uuid, u.id, u.name, "
+            + "u.nextersNumber, u.role, u.position, u.email, u.activated, u.voteCount, u.voted, u.submitIdea, "
+            + "u.hasTeam, u.createdAt) "
+            + "from User u where u.role = :role and u.dissmissed = false")
+    List<UserResponse> findUserResponsesByRole(@Param("role") User.Role role, Pageable pageable);
+
+    @Query(value = "select new com.nexters.teambuilder.user.api.dto.UserResponse(u.uuid, u.id, u.name, "
+            + "u.nextersNumber, u.role, u.position, u.email, u.activated, u.voteCount, u.voted, u.submitIdea, "
+            + "u.hasTeam, u.createdAt) "
+            + "from User u where u.role = :role and u.activated = true and u.dissmissed = false")
+    List<UserResponse> findActivatedUserResponsesByRole(@Param("role") User.Role role, Pageable pageable);
+
     long countByDissmissedIsTrue();
+
+    @Query("select new com.nexters.teambuilder.idea.api.dto.MemberResponse(u.uuid, u.id, u.name, u.nextersNumber, "
+            + "u.position, u.hasTeam) from User u where u.role = :role and u.dissmissed = false")
+    List<MemberResponse> findMemberResponsesByRole(@Param("role") User.Role role);
+
+    @Query("select new com.nexters.teambuilder.user.api.dto.UserResponse(u.uuid, u.id, u.name, "
+            + "u.nextersNumber, u.role, u.position, u.email, u.activated, u.voteCount, u.voted, u.submitIdea, "
+            + "u.hasTeam, u.createdAt) "
+            + "from User u order by u.createdAt")
+    List<UserResponse> findAllUserResponses();
+
+    /**
+     * export 용. fetch size Integer.MIN_VALUE 로 MySQL driver 가 결과를 한 row 씩 stream 한다.
+     * 다 읽기 전에는 같은 connection 에서 다른 query 를 실행할 수 없으므로 transaction 안에서 사용하고 다 쓴 뒤 close 해야 한다.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("select new com.nexters.teambuilder.user.api.dto.UserResponse(u.uuid, u.id, u.name, "
+            + "u.nextersNumber, u.role, u.position, u.email, u.activated, u.voteCount, u.voted, u.submitIdea, "
+            + "u.hasTeam, u.createdAt) "
+            + "from User u order by u.createdAt")
+    Stream<UserResponse> streamAllUserResponses();
+
+    /**
+     * 모든 회원을 비활성화하고 기수 활동 상태를 초기화한다. User#deactivate 와 같은 값을 하나의 update 로 반영한다.
+     * @return 변경된 회원 수
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update User u set u.activated = false, u.hasTeam = false, u.submitIdea = false, u.voted = false,"
+            + " u.voteCount = 0")
+    int deactivateAll();
+
+    @Transactional
+    @Modifying
+    @Query("update User u set u.voteCount = :voteCount, u.voted = true where u.uuid = :uuid")
+    int updateVoted(@Param("uuid") String uuid, @Param("voteCount") int voteCount);
 }
@@ -0,0 +1,11 @@
+package com.nexters.teambuilder.user.domain;
+
+import java.util.List;
+
+public interface UserRepositoryCustom {
+    /**
+     * 회원을 JDBC batch insert 로 한 번에 저장한다. uuid 와 createdAt 은 호출하는 쪽에서 채워야 한다.
+     * sessionId 가 있으면 같은 batch 로 기수 회원(session_user)도 추가한다.
+     */
+    void saveAllInBatch(List<User> users, Integer sessionId);
+}
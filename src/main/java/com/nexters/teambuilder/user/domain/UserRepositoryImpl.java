@@ -0,0 +1,43 @@
+package com.nexters.teambuilder.user.domain;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class UserRepositoryImpl implements UserRepositoryCustom {
+    private static final String INSERT_USER = "insert into user (uuid, id, password, name, nexters_number, email,"
+            + " role, position, created_at, activated, authenticated, vote_count, voted, submit_idea, has_team,"
+            + " dissmissed) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false, 0, false, false, false, false)";
+
+    private static final String INSERT_SESSION_USER = "insert into session_user (session_session_id, user_uuid,"
+            + " vote_count, voted, submit_idea, has_team) values (?, ?, 0, false, false, false)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void saveAllInBatch(List<User> users, Integer sessionId) {
+        jdbcTemplate.batchUpdate(INSERT_USER, users, users.size(), (ps, user) -> {
+            ps.setString(1, user.getUuid());
+            ps.setString(2, user.getId());
+            ps.setString(3, user.getPassword());
+            ps.setString(4, user.getName());
+            ps.setObject(5, user.getNextersNumber(), Types.INTEGER);
+            ps.setString(6, user.getEmail());
+            ps.setString(7, user.getRole().name());
+            ps.setString(8, user.getPosition() == null ? null : user.getPosition().name());
+            ps.setTimestamp(9, Timestamp.from(user.getCreatedAt().toInstant()));
+            ps.setBoolean(10, user.isActivated());
+        });
+
+        if (sessionId != null) {
+            jdbcTemplate.batchUpdate(INSERT_SESSION_USER, users, users.size(), (ps, user) -> {
+                ps.setInt(1, sessionId);
+                ps.setString(2, user.getUuid());
+            });
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.nexters.teambuilder.user.exception;
+
+public class UserIdAlreadyExistsException extends RuntimeException {
+    public UserIdAlreadyExistsException() {
+        super("id: error.id.unique.");
+    }
+}
@@ -0,0 +1,214 @@
+package com.nexters.teambuilder.user.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.nexters.teambuilder.common.transaction.AfterCommit;
+import com.nexters.teambuilder.idea.api.dto.MemberResponse;
+import com.nexters.teambuilder.session.domain.SessionUser;
+import com.nexters.teambuilder.session.domain.SessionUserRepository;
+import com.nexters.teambuilder.user.domain.User;
+import com.nexters.teambuilder.user.domain.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팀원 선택을 위한 회원 이름/아이디 prefix 색인. 제명되지 않은 일반 회원만 담는다.
+ * "소문자로 바꾼 이름(또는 아이디) + 구분자 + uuid" 를 정렬된 집합에 넣어 두고, prefix 구간만 읽어 DB 조회 없이 결과를 만든다.
+ * 애플리케이션 시작 시 DB 에서 다시 만들고, 이후에는 회원 정보나 기수 회원이 바뀔 때 해당 회원만 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserDirectoryIndex {
+    private static final char SEPARATOR = '\u0000';
+
+    private final UserRepository userRepository;
+
+    private final SessionUserRepository sessionUserRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final NavigableSet<String> keys = new TreeSet<>();
+
+    private final Map<String, MemberResponse> users = new HashMap<>();
+
+    // sessionId -> 기수 회원 uuid
+    private final Map<Integer, Set<String>> sessionMembers = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<MemberResponse> members = userRepository.findMemberResponsesByRole(User.Role.ROLE_USER);
+        List<SessionUser.Id> sessionUserIds = sessionUserRepository.findAllIds();
+
+        lock.writeLock().lock();
+        try {
+            keys.clear();
+            users.clear();
+            sessionMembers.clear();
+            members.forEach(this::add);
+            sessionUserIds.forEach(id ->
+                    sessionMembers.computeIfAbsent(id.getSessionId(), key -> new HashSet<>()).add(id.getUuid()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("user directory index rebuilt: {} users, {} sessions", members.size(), sessionMembers.size());
+    }
+
+    /**
+     * 회원 정보를 반영한다. 제명되었거나 일반 회원이 아니면 색인에서 뺀다.
+     */
+    public void index(Collection<User> changed) {
+        List<MemberResponse> members = new ArrayList<>(changed.size());
+        List<String> removed = new ArrayList<>();
+        changed.forEach(user -> {
+            if (user.isDissmissed() || user.getRole() != User.Role.ROLE_USER) {
+                removed.add(user.getUuid());
+            } else {
+                members.add(MemberResponse.createMemberFrom(user));
+            }
+        });
+
+        AfterCommit.run(() -> write(() -> {
+            removed.forEach(this::remove);
+            members.forEach(member -> {
+                remove(member.getUuid());
+                add(member);
+            });
+        }));
+    }
+
+    public void index(User user) {
+        index(Collections.singletonList(user));
+    }
+
+    /**
+     * 모든 회원의 팀 소속 여부를 해제한다. 시즌 초기화처럼 bulk update 로 바뀐 경우에 사용한다.
+     */
+    public void clearHasTeam() {
+        AfterCommit.run(() -> write(() -> users.values().forEach(member -> member.setHasTeam(false))));
+    }
+
+    public void addSessionMembers(Integer sessionId, Collection<String> uuids) {
+        List<String> copied = new ArrayList<>(uuids);
+        AfterCommit.run(() -> write(() ->
+                sessionMembers.computeIfAbsent(sessionId, key -> new HashSet<>()).addAll(copied)));
+    }
+
+    public void removeSessionMembers(Integer sessionId, Collection<String> uuids) {
+        List<String> copied = new ArrayList<>(uuids);
+        AfterCommit.run(() -> write(() -> {
+            Set<String> members = sessionMembers.get(sessionId);
+            if (members != null) {
+                members.removeAll(copied);
+            }
+        }));
+    }
+
+    public void removeSession(Integer sessionId) {
+        AfterCommit.run(() -> write(() -> sessionMembers.remove(sessionId)));
+    }
+
+    /**
+     * @param query 이름 또는 아이디의 앞부분. 대소문자를 구분하지 않는다
+     * @param position 포지션 필터, null 이면 전체
+     * @param hasTeam 팀 소속 여부 필터, null 이면 전체
+     * @param sessionId 기수 회원 필터, null 이면 전체
+     * @return 일치한 이름/아이디 순으로 최대 limit 명
+     */
+    public List<MemberResponse> search(String query, User.Position position, Boolean hasTeam, Integer sessionId,
+                                       int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<MemberResponse> result = new ArrayList<>();
+        Set<String> matched = new HashSet<>();
+        lock.readLock().lock();
+        try {
+            Set<String> members = sessionId == null ? null
+                    : sessionMembers.getOrDefault(sessionId, Collections.emptySet());
+            for (String key : keys.subSet(prefix, true, prefix + Character.MAX_VALUE, false)) {
+                String uuid = key.substring(key.lastIndexOf(SEPARATOR) + 1);
+                MemberResponse member = users.get(uuid);
+                if ((position != null && position != member.getPosition())
+                        || (hasTeam != null && hasTeam != member.isHasTeam())
+                        || (members != null && !members.contains(uuid))
+                        || !matched.add(uuid)) {
+                    continue;
+                }
+
+                result.add(copy(member));
+                if (result.size() >= limit) {
+                    break;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    private void write(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void add(MemberResponse member) {
+        users.put(member.getUuid(), member);
+        terms(member).forEach(term -> keys.add(term + SEPARATOR + member.getUuid()));
+    }
+
+    private void remove(String uuid) {
+        MemberResponse member = users.remove(uuid);
+        if (member != null) {
+            terms(member).forEach(term -> keys.remove(term + SEPARATOR + uuid));
+        }
+    }
+
+    // 이름 전체, 공백으로 나눈 이름의 각 부분, 아이디
+    private static Set<String> terms(MemberResponse member) {
+        Set<String> terms = new LinkedHashSet<>();
+        String name = normalize(member.getName());
+        if (!name.isEmpty()) {
+            terms.add(name);
+            for (String part : name.split("\\s+")) {
+                terms.add(part);
+            }
+        }
+        String id = normalize(member.getId());
+        if (!id.isEmpty()) {
+            terms.add(id);
+        }
+        return terms;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static MemberResponse copy(MemberResponse member) {
+        return new MemberResponse(member.getUuid(), member.getId(), member.getName(), member.getNextersNumber(),
+                member.getPosition(), member.isHasTeam());
+    }
+}
@@ -0,0 +1,80 @@
+package com.nexters.teambuilder.user.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.nexters.teambuilder.user.domain.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용 중인 user id 의 Bloom filter.
+ * filter 에 없는 id 는 확실히 사용 가능하므로 DB 를 조회하지 않는다. 있을 수도 있는 경우에만 DB 에서 확인한다.
+ * 애플리케이션 시작 시 DB 에서 만들며, 만들어지기 전에는 항상 DB 를 조회하도록 한다.
+ * 삭제된 id 가 쌓여 오탐이 늘지 않도록 주기적으로 다시 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserIdIndex {
+    private static final int MIN_EXPECTED_IDS = 10_000;
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    private final UserRepository userRepository;
+
+    private final Object rebuildLock = new Object();
+
+    private volatile BloomFilter<CharSequence> filter;
+
+    // 마지막 rebuild 가 시작된 뒤 추가된 id. 아직 commit 되지 않아 DB 조회에서 빠질 수 있으므로 다음 filter 에도 넣는다.
+    private Set<String> addedIds = new HashSet<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${user.id-index.rebuild-interval-ms:3600000}",
+            initialDelayString = "${user.id-index.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            Set<String> carried;
+            synchronized (this) {
+                carried = addedIds;
+                addedIds = new HashSet<>();
+            }
+
+            List<String> ids = userRepository.findAllIds();
+
+            BloomFilter<CharSequence> rebuilt = BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8),
+                    Math.max(MIN_EXPECTED_IDS, ids.size() * 2), FALSE_POSITIVE_PROBABILITY);
+            ids.forEach(rebuilt::put);
+            carried.forEach(rebuilt::put);
+            synchronized (this) {
+                addedIds.forEach(rebuilt::put);
+                filter = rebuilt;
+            }
+            log.info("user id index rebuilt: {} ids", ids.size());
+        }
+    }
+
+    /**
+     * 새로 사용되는 id 를 추가한다. 저장 전에 추가해도 DB 확인으로 이어질 뿐이므로 commit 을 기다리지 않는다.
+     * filter 가 만들어지기 전이나 다시 만드는 중에 추가된 id 도 새 filter 에 들어간다.
+     */
+    public synchronized void add(String id) {
+        addedIds.add(id);
+        if (filter != null) {
+            filter.put(id);
+        }
+    }
+
+    public boolean mightBeTaken(String id) {
+        BloomFilter<CharSequence> current = filter;
+        return current == null || current.mightContain(id);
+    }
+}
@@ -0,0 +1,29 @@
+package com.nexters.teambuilder.user.service;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 일괄 가입 파일의 한 행. 형식 검증은 UserImportService 에서 하므로 값은 받은 그대로 문자열로 둔다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+class UserImportRow {
+    private long line;
+
+    private String id;
+
+    private String password;
+
+    private String name;
+
+    private String nextersNumber;
+
+    private String role;
+
+    private String position;
+
+    private String email;
+}
@@ -0,0 +1,348 @@
+package com.nexters.teambuilder.user.service;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.apache.commons.lang3.StringUtils.trimToNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Enums;
+import com.nexters.teambuilder.config.security.PasswordHasher;
+import com.nexters.teambuilder.idea.exception.UserForbiddenActionException;
+import com.nexters.teambuilder.session.domain.Session;
+import com.nexters.teambuilder.session.domain.SessionRepository;
+import com.nexters.teambuilder.session.exception.SessionNotFoundException;
+import com.nexters.teambuilder.user.api.dto.UserImportError;
+import com.nexters.teambuilder.user.api.dto.UserImportResponse;
+import com.nexters.teambuilder.user.domain.User;
+import com.nexters.teambuilder.user.domain.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 기수 회원 일괄 가입. CSV(첫 줄은 header) 또는 NDJSON 파일을 한 줄씩 읽어 batch-size 행씩 처리한다.
+ * 비밀번호는 PasswordHasher 의 bulk pool 에서 병렬로 암호화하고, 회원은 JDBC batch insert 로 저장한다.
+ * 잘못된 행은 건너뛰고 줄 번호와 함께 보고하며, 나머지 행의 가입은 계속 진행한다.
+ */
+@Slf4j
+@Service
+public class UserImportService {
+    public static final String TEXT_CSV = "text/csv";
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+$");
+
+    private final UserRepository userRepository;
+
+    private final SessionRepository sessionRepository;
+
+    private final UserIdIndex userIdIndex;
+
+    private final UserDirectoryIndex userDirectoryIndex;
+
+    private final PasswordHasher passwordHasher;
+
+    private final ObjectMapper objectMapper;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+
+    public UserImportService(UserRepository userRepository,
+                             SessionRepository sessionRepository,
+                             UserIdIndex userIdIndex,
+                             UserDirectoryIndex userDirectoryIndex,
+                             PasswordHasher passwordHasher,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${user.import.batch-size:500}") int batchSize) {
+        this.userRepository = userRepository;
+        this.sessionRepository = sessionRepository;
+        this.userIdIndex = userIdIndex;
+        this.userDirectoryIndex = userDirectoryIndex;
+        this.passwordHasher = passwordHasher;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @param sessionNumber 지정하면 가입한 회원을 해당 기수 회원으로도 추가한다
+     */
+    public UserImportResponse importUsers(User admin, InputStream in, String contentType,
+                                          Integer sessionNumber) throws IOException {
+        if (!admin.getRole().equals(User.Role.ROLE_ADMIN)) {
+            throw new UserForbiddenActionException();
+        }
+
+        boolean csv = isCsv(contentType);
+        Integer sessionId = sessionNumber == null ? null : sessionRepository.findBySessionNumber(sessionNumber)
+                .map(Session::getSessionId)
+                .orElseThrow(() -> new SessionNotFoundException(sessionNumber));
+
+        ImportResult result = new ImportResult();
+        Set<String> seenIds = new HashSet<>();
+        List<UserImportRow> chunk = new ArrayList<>(batchSize);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            Map<String, Integer> header = null;
+            long line = 0;
+            String text;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (isBlank(text)) {
+                    continue;
+                }
+                if (csv && header == null) {
+                    header = parseHeader(text);
+                    continue;
+                }
+
+                UserImportRow row;
+                try {
+                    row = csv ? parseCsvRow(header, text) : objectMapper.readValue(text, UserImportRow.class);
+                } catch (IOException | IllegalArgumentException e) {
+                    result.fail(line, null, "행을 읽을 수 없습니다.");
+                    continue;
+                }
+                row.setLine(line);
+
+                String error = validate(row);
+                if (error == null && !seenIds.add(row.getId().trim())) {
+                    error = "파일 안에서 중복된 id 입니다.";
+                }
+                if (error != null) {
+                    result.fail(row.getLine(), row.getId(), error);
+                    continue;
+                }
+
+                chunk.add(row);
+                if (chunk.size() >= batchSize) {
+                    insert(chunk, sessionId, result);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            insert(chunk, sessionId, result);
+        }
+
+        log.info("users imported: imported={}, failed={}", result.importedCount, result.failedCount);
+        return new UserImportResponse(result.importedCount, result.failedCount, result.errors);
+    }
+
+    private void insert(List<UserImportRow> chunk, Integer sessionId, ImportResult result) {
+        Set<String> taken = new HashSet<>(userRepository.findIdsByIdIn(chunk.stream()
+                .map(row -> row.getId().trim())
+                .collect(Collectors.toList())));
+
+        List<UserImportRow> rows = new ArrayList<>(chunk.size());
+        for (UserImportRow row : chunk) {
+            if (taken.contains(row.getId().trim())) {
+                result.fail(row.getLine(), row.getId(), "이미 사용 중인 id 입니다.");
+            } else {
+                rows.add(row);
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        List<String> passwords = passwordHasher.encodeAll(rows.stream()
+                .map(UserImportRow::getPassword)
+                .collect(Collectors.toList()));
+        ZonedDateTime now = ZonedDateTime.now();
+        List<User> users = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            users.add(toUser(rows.get(i), passwords.get(i), now));
+        }
+
+        try {
+            save(users, sessionId);
+            indexImported(users, sessionId);
+            result.importedCount += users.size();
+        } catch (DataAccessException e) {
+            // 그 사이에 같은 id 로 가입했거나 제약 조건을 어긴 행이 있다. 행 단위로 다시 저장해 실패한 행만 보고한다.
+            log.warn("user import batch failed, retry row by row. rows={}", users.size(), e);
+            for (int i = 0; i < users.size(); i++) {
+                User user = users.get(i);
+                try {
+                    save(Collections.singletonList(user), sessionId);
+                    indexImported(Collections.singletonList(user), sessionId);
+                    result.importedCount++;
+                } catch (DataAccessException rowException) {
+                    result.fail(rows.get(i).getLine(), user.getId(), "저장하지 못했습니다.");
+                }
+            }
+        }
+    }
+
+    private void indexImported(List<User> users, Integer sessionId) {
+        users.forEach(user -> userIdIndex.add(user.getId()));
+        userDirectoryIndex.index(users);
+        if (sessionId != null) {
+            userDirectoryIndex.addSessionMembers(sessionId,
+                    users.stream().map(User::getUuid).collect(Collectors.toList()));
+        }
+    }
+
+    private void save(List<User> users, Integer sessionId) {
+        transactionTemplate.execute(status -> {
+            userRepository.saveAllInBatch(users, sessionId);
+            return null;
+        });
+    }
+
+    private static User toUser(UserImportRow row, String encodedPassword, ZonedDateTime createdAt) {
+        User user = User.builder()
+                .id(row.getId().trim())
+                .password(encodedPassword)
+                .name(row.getName().trim())
+                .nextersNumber(row.getNextersNumber() == null ? null : Integer.valueOf(row.getNextersNumber().trim()))
+                .role(row.getRole() == null ? User.Role.ROLE_USER : User.Role.valueOf(row.getRole().trim()))
+                .position(User.Position.valueOf(row.getPosition().trim()))
+                .email(trimToNull(row.getEmail()))
+                .build();
+        user.setUuid(UUID.randomUUID().toString());
+        user.setCreatedAt(createdAt);
+        return user;
+    }
+
+    /**
+     * @return 행이 올바르면 null, 아니면 오류 메시지
+     */
+    private static String validate(UserImportRow row) {
+        if (isBlank(row.getId())) {
+            return "id 는 필수입니다.";
+        }
+        if (isBlank(row.getPassword())) {
+            return "password 는 필수입니다.";
+        }
+        if (isBlank(row.getName())) {
+            return "name 은 필수입니다.";
+        }
+        if (isBlank(row.getPosition())
+                || !Enums.getIfPresent(User.Position.class, row.getPosition().trim()).isPresent()) {
+            return "position 은 DESIGNER, DEVELOPER 중 하나여야 합니다.";
+        }
+        if (row.getRole() != null && !Enums.getIfPresent(User.Role.class, row.getRole().trim()).isPresent()) {
+            return "role 은 ROLE_ADMIN, ROLE_USER 중 하나여야 합니다.";
+        }
+        if (row.getNextersNumber() != null && !row.getNextersNumber().trim().matches("\\d{1,9}")) {
+            return "nextersNumber 는 숫자여야 합니다.";
+        }
+        if (row.getEmail() != null && !EMAIL.matcher(row.getEmail().trim()).matches()) {
+            return "email 형식이 올바르지 않습니다.";
+        }
+        return null;
+    }
+
+    private static boolean isCsv(String contentType) {
+        String mediaType = contentType == null ? "" : contentType.split(";")[0].trim().toLowerCase();
+        if (TEXT_CSV.equals(mediaType)) {
+            return true;
+        }
+        if (APPLICATION_NDJSON.equals(mediaType)) {
+            return false;
+        }
+        throw new IllegalArgumentException("지원하지 않는 형식입니다: " + contentType);
+    }
+
+    private static Map<String, Integer> parseHeader(String text) {
+        List<String> names = splitCsvLine(text.replace("\uFEFF", ""));
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            header.put(names.get(i).trim().toLowerCase(), i);
+        }
+        if (!header.keySet().containsAll(Arrays.asList("id", "password", "name", "position"))) {
+            throw new IllegalArgumentException("CSV header 에 id, password, name, position 이 있어야 합니다.");
+        }
+        return header;
+    }
+
+    private static UserImportRow parseCsvRow(Map<String, Integer> header, String text) {
+        List<String> fields = splitCsvLine(text);
+        UserImportRow row = new UserImportRow();
+        row.setId(field(header, fields, "id"));
+        row.setPassword(field(header, fields, "password"));
+        row.setName(field(header, fields, "name"));
+        row.setNextersNumber(field(header, fields, "nextersnumber"));
+        row.setRole(field(header, fields, "role"));
+        row.setPosition(field(header, fields, "position"));
+        row.setEmail(field(header, fields, "email"));
+        return row;
+    }
+
+    private static String field(Map<String, Integer> header, List<String> fields, String name) {
+        Integer index = header.get(name);
+        return index == null || index >= fields.size() ? null : trimToNull(fields.get(index));
+    }
+
+    /**
+     * 한 줄을 CSV 필드로 나눈다. 큰따옴표로 감싼 필드와 그 안의 "" escape 를 지원한다.
+     */
+    static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 따옴표가 있습니다.");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static final class ImportResult {
+        int importedCount;
+        int failedCount;
+        final List<UserImportError> errors = new ArrayList<>();
+
+        void fail(long line, String id, String message) {
+            failedCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new UserImportError(line, id, message));
+            }
+        }
+    }
+}
@@ -1,28 +1,44 @@
 package com.nexters.teambuilder.user.service;
 
+import com.nexters.teambuilder.common.Service.SequenceService;
 import com.nexters.teambuilder.common.domain.CommonRepository;
+import com.nexters.teambuilder.common.transaction.AfterCommit;
 import com.nexters.teambuilder.config.security.InValidTokenException;
+import com.nexters.teambuilder.config.security.PasswordHasher;
+import com.nexters.teambuilder.config.security.PrincipalCache;
+import com.nexters.teambuilder.config.security.RefreshTokenStore;
+import com.nexters.teambuilder.config.security.TokenRevocationList;
 import com.nexters.teambuilder.config.security.TokenService;
+import com.nexters.teambuilder.idea.api.dto.MemberResponse;
 import com.nexters.teambuilder.idea.exception.UserForbiddenActionException;
 import com.nexters.teambuilder.session.domain.Session;
 import com.nexters.teambuilder.session.domain.SessionRepository;
 import com.nexters.teambuilder.session.domain.SessionUser;
+import com.nexters.teambuilder.session.domain.SessionUserRepository;
 import com.nexters.teambuilder.session.exception.SessionNotFoundException;
+import com.nexters.teambuilder.session.service.SessionSnapshotCache;
 import com.nexters.teambuilder.user.api.dto.*;
 import com.nexters.teambuilder.user.domain.User;
 import com.nexters.teambuilder.user.domain.UserRepository;
 import com.nexters.teambuilder.user.exception.AuthenticationCodeNotConsistentException;
 import com.nexters.teambuilder.user.exception.LoginErrorException;
 import com.nexters.teambuilder.user.exception.PasswordNotMatedException;
+import com.nexters.teambuilder.user.exception.UserIdAlreadyExistsException;
 import com.nexters.teambuilder.user.exception.UserNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -35,9 +51,28 @@ public class UserService {
 
     private final SessionRepository sessionRepository;
 
+    private final SessionUserRepository sessionUserRepository;
+
     private final CommonRepository commonRepository;
 
-    private BCryptPasswordEncoder encryptor = new BCryptPasswordEncoder();
+    private final PrincipalCache principalCache;
+
+    private final PasswordHasher passwordHasher;
+
+    private final RefreshTokenStore refreshTokenStore;
+
+    private final TokenRevocationList revocationList;
+
+    private final UserIdIndex userIdIndex;
+
+    private final SequenceService sequenceService;
+
+    private final UserDirectoryIndex userDirectoryIndex;
+
+    private final SessionSnapshotCache sessionSnapshotCache;
+
+    // refresh token 저장(DB INSERT)이 BCrypt 전용 pool 의 thread 를 잡지 않도록 발급은 이 executor 에서 한다.
+    private final ThreadPoolTaskExecutor taskExecutor;
 
     public UserResponse createUser(UserRequest request) {
         commonRepository.findTopByOrderByIdDesc().ifPresent(common -> {
@@ -46,14 +81,25 @@ public class UserService {
             }
         });
 
-        User user = userRepository.save(User.builder()
-                .id(request.getId())
-                .password(encryptor.encode(request.getPassword()))
-                .name(request.getName())
-                .nextersNumber(request.getNextersNumber())
-                .role(request.getRole())
-                .position(request.getPosition())
-                .build());
+        userIdIndex.add(request.getId());
+        User user;
+        try {
+            user = userRepository.save(User.builder()
+                    .id(request.getId())
+                    .password(passwordHasher.encode(request.getPassword()).join())
+                    .name(request.getName())
+                    .nextersNumber(request.getNextersNumber())
+                    .role(request.getRole())
+                    .position(request.getPosition())
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 중복 확인과 저장 사이에 같은 id 로 가입한 경우
+            if (isUserIdViolation(e)) {
+                throw new UserIdAlreadyExistsException();
+            }
+            throw e;
+        }
+        userDirectoryIndex.index(user);
 
         return UserResponse.of(user);
     }
@@ -69,38 +115,76 @@ public class UserService {
         return userRepository.findUserById(id);
     }
 
-    public SignInResponse signIn(String id, String password) {
-        return userRepository.findUserById(id)
-                .map(user -> {
-                    user.setAuthenticated(true);
-                    if(!encryptor.matches(password, user.getPassword())) {
+    /**
+     * 비밀번호 검증은 PasswordHasher 의 thread pool 에서 실행되고, token 발급은 검증이 끝난 뒤 application task executor 에서 한다.
+     */
+    public CompletableFuture<SignInResponse> signIn(String id, String password) {
+        User user = userRepository.findUserById(id).orElseThrow(() -> new LoginErrorException(id));
+
+        return passwordHasher.matches(password, user.getPassword())
+                .thenApplyAsync(matched -> {
+                    if (!matched) {
                         throw new PasswordNotMatedException();
                     }
+                    user.setAuthenticated(true);
+                    return issueTokens(user);
+                }, taskExecutor);
+    }
+
+    /**
+     * refresh token 을 새 access token, refresh token 으로 교환한다. 사용한 refresh token 은 폐기된다.
+     */
+    public SignInResponse refresh(String refreshToken) {
+        return refreshTokenStore.consume(refreshToken)
+                .flatMap(userRepository::findUserByUuid)
+                .filter(user -> !user.isDissmissed())
+                .map(this::issueTokens)
+                .orElseThrow(() -> new InValidTokenException());
+    }
+
+    /**
+     * access token 을 만료 시각까지 폐기하고, 함께 받은 refresh token 도 버린다.
+     */
+    public void logout(String accessToken, String refreshToken) {
+        Map<String, String> claims = tokenService.verify(accessToken);
+        if (claims.isEmpty()) {
+            throw new InValidTokenException();
+        }
 
-                    Map<String, String> attributes = new LinkedHashMap<>();
-                    attributes.put("uuid", user.getUuid());
-                    attributes.put("id", user.getId());
-                    attributes.put("name", user.getName());
-                    attributes.put("nextersNumber", String.valueOf(user.getNextersNumber()));
-                    attributes.put("role", String.valueOf(user.getRole()));
-                    attributes.put("position", String.valueOf(user.getPosition()));
-                    attributes.put("createdAt", String.valueOf(user.getCreatedAt()));
-
-                    return tokenService.expiring(attributes);
-                }).map(token -> {
-                    User user = findByToken(token);
-                    return new SignInResponse(token, user.getRole());
-                })
-                .orElseThrow(() -> new LoginErrorException(id));
-    }
-
-    public void updateUser(User user, UserUpdateRequest request) {
-        if (!encryptor.matches(request.getNowPassword(), user.getPassword())) {
+        revocationList.revokeToken(accessToken, Optional.ofNullable(claims.get("exp")).map(Long::valueOf).orElse(null));
+        if (refreshToken != null) {
+            refreshTokenStore.consume(refreshToken);
+        }
+    }
+
+    private SignInResponse issueTokens(User user) {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        attributes.put("uuid", user.getUuid());
+        attributes.put("id", user.getId());
+        attributes.put("name", user.getName());
+        attributes.put("nextersNumber", String.valueOf(user.getNextersNumber()));
+        attributes.put("role", String.valueOf(user.getRole()));
+        attributes.put("position", String.valueOf(user.getPosition()));
+        attributes.put("createdAt", String.valueOf(user.getCreatedAt()));
+
+        return new SignInResponse(tokenService.expiring(attributes), refreshTokenStore.issue(user.getUuid()),
+                user.getRole());
+    }
+
+    /**
+     * 인증된 사용자는 캐시된 snapshot 이므로 엔티티를 다시 조회해 변경한다.
+     */
+    public void updateUser(User principal, UserUpdateRequest request) {
+        User user = userRepository.findUserByUuid(principal.getUuid())
+                .orElseThrow(() -> new UserNotFoundException(principal.getUuid()));
+
+        if (!passwordHasher.matches(request.getNowPassword(), user.getPassword()).join()) {
             throw new PasswordNotMatedException();
         }
 
         if(request.getNewPassword() != null) {
-            user.updatePassword(encryptor.encode(request.getNewPassword()));
+            user.updatePassword(passwordHasher.encode(request.getNewPassword()).join());
+            refreshTokenStore.revokeAll(user.getUuid());
         }
 
         if(request.getPosition() != null) {
@@ -108,18 +192,24 @@ public class UserService {
         }
 
         userRepository.save(user);
+        principalCache.invalidate(user.getUuid());
+        userDirectoryIndex.index(user);
+        if(request.getPosition() != null) {
+            sessionSnapshotCache.evictAll();
+        }
+    }
+
+    public List<UserResponse> userList(Pageable pageable) {
+        return userRepository.findUserResponsesByRole(User.Role.ROLE_USER, pageable);
     }
 
-    public List<UserResponse> userList() {
-        return userRepository.findAll().stream()
-                .filter(user -> user.getRole().equals(User.Role.ROLE_USER) && !user.isDissmissed())
-                .map(UserResponse::of).collect(Collectors.toList());
+    public List<MemberResponse> searchUsers(UserSearchRequest request) {
+        return userDirectoryIndex.search(request.getQ(), request.getPosition(), request.getHasTeam(),
+                request.getSessionId(), request.getSize());
     }
 
-    public List<UserResponse> activatedUserList() {
-        return userRepository.findAll().stream()
-                .filter(user -> user.getRole().equals(User.Role.ROLE_USER) && user.isActivated() && !user.isDissmissed())
-                .map(UserResponse::of).collect(Collectors.toList());
+    public List<UserResponse> activatedUserList(Pageable pageable) {
+        return userRepository.findActivatedUserResponsesByRole(User.Role.ROLE_USER, pageable);
     }
 
     public List<SessionUserResponse> sessionUserList(Integer sessionNumber) {
@@ -143,7 +233,7 @@ public class UserService {
     }
 
     public boolean isIdUsable(String userId) {
-        return !userRepository.existsById(userId);
+        return !userIdIndex.mightBeTaken(userId) || !userRepository.existsById(userId);
     }
 
     public void activateUser(String uuid) {
@@ -152,6 +242,7 @@ public class UserService {
         user.activate();
 
         userRepository.save(user);
+        principalCache.invalidate(uuid);
     }
 
     public void deactivateUser(String uuid) {
@@ -160,15 +251,27 @@ public class UserService {
         user.deactivate();
 
         userRepository.save(user);
+        principalCache.invalidate(uuid);
+        userDirectoryIndex.index(user);
+        revocationList.revokeUser(uuid);
+        refreshTokenStore.revokeAll(uuid);
     }
 
-    public List<UserResponse> deactivateAllUsers() {
-        List<User> users = userRepository.findAll();
-
-        return users.stream().map(user -> {
-            user.deactivate();
-            return UserResponse.of(user);
-        }).collect(Collectors.toList());
+    /**
+     * 시즌 초기화. 회원과 기수 회원의 상태를 bulk update 로 한 번에 초기화한다.
+     * @param withUsers true 이면 초기화된 회원 목록을 함께 돌려준다
+     */
+    @Transactional
+    public DeactivateAllResponse deactivateAllUsers(boolean withUsers) {
+        int deactivatedCount = userRepository.deactivateAll();
+        userDirectoryIndex.clearHasTeam();
+        int sessionUserResetCount = sessionUserRepository.resetAll();
+        // commit 전에 비우면 그 사이 요청이 초기화 전 회원을 다시 캐시한다.
+        AfterCommit.run(principalCache::invalidateAll);
+        sessionSnapshotCache.evictAll();
+
+        List<UserResponse> users = withUsers ? userRepository.findAllUserResponses() : null;
+        return new DeactivateAllResponse(deactivatedCount, sessionUserResetCount, users);
     }
 
     public void dismissUsers(User admin, UserDismissRequest request) {
@@ -176,16 +279,41 @@ public class UserService {
             throw new UserForbiddenActionException();
         }
 
-        long dissmissNumber = userRepository.countByDissmissedIsTrue();
-        System.out.println(dissmissNumber);
-
         List<User> users = userRepository.findAllByUuidIn(request.getUuids());
+        if (users.isEmpty()) {
+            return;
+        }
+
+        long firstDismissNumber = sequenceService.nextBlock(SequenceService.DISMISS_NUMBER, users.size(),
+                () -> userRepository.countByDissmissedIsTrue() + 1);
         List<User> dissmissedUsers = IntStream.range(0, users.size()).mapToObj(i -> {
             User user = users.get(i);
-            user.dismiss(dissmissNumber + i + 1);
+            user.dismiss(firstDismissNumber + i);
+            userIdIndex.add(user.getId());
             return user;
         }).collect(Collectors.toList());
 
         userRepository.saveAll(dissmissedUsers);
+        userDirectoryIndex.index(dissmissedUsers);
+        sessionSnapshotCache.evictAll();
+        principalCache.invalidateAll(request.getUuids());
+        request.getUuids().forEach(uuid -> {
+            revocationList.revokeUser(uuid);
+            refreshTokenStore.revokeAll(uuid);
+        });
+    }
+
+    private static boolean isUserIdViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException) {
+                ConstraintViolationException violation = (ConstraintViolationException) cause;
+                // dialect 에 따라 constraint 이름을 꺼내지 못하면 driver 의 message 에서 찾는다.
+                String constraintName = violation.getConstraintName() != null
+                        ? violation.getConstraintName() : violation.getSQLException().getMessage();
+                return constraintName != null
+                        && constraintName.toLowerCase(Locale.ROOT).contains(User.ID_UNIQUE_CONSTRAINT);
+            }
+        }
+        return false;
     }
 }
@@ -0,0 +1,102 @@
+package com.nexters.teambuilder.common.Service;
+
+import static org.assertj.core.api.Java6BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import com.nexters.teambuilder.common.domain.SequenceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 여러 thread 의 예약이 각자 commit 되어야 하므로 테스트 트랜잭션을 사용하지 않는다.
+ */
+@DataJpaTest
+@Import(SequenceService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SequenceServiceTest {
+    private static final String NAME = "test-sequence";
+
+    @Autowired
+    private SequenceService sequenceService;
+
+    @Autowired
+    private SequenceRepository sequenceRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        sequenceRepository.deleteAll();
+    }
+
+    @Test
+    void next_NoSequence_StartFromInitialValue() {
+        then(sequenceService.next(NAME, () -> 8)).isEqualTo(8);
+        then(sequenceService.next(NAME, () -> 100)).isEqualTo(9);
+    }
+
+    @Test
+    void nextBlock_AfterNext_ReserveContiguousNumbers() {
+        sequenceService.next(NAME, () -> 1);
+
+        long first = sequenceService.nextBlock(NAME, 5, () -> 1);
+
+        then(first).isEqualTo(2);
+        then(sequenceService.next(NAME, () -> 1)).isEqualTo(7);
+    }
+
+    @Test
+    void next_CallerRolledBack_NumberReleased() {
+        sequenceService.next(NAME, () -> 1);
+
+        new TransactionTemplate(transactionManager).execute(status -> {
+            then(sequenceService.next(NAME, () -> 1)).isEqualTo(2);
+            status.setRollbackOnly();
+            return null;
+        });
+
+        then(sequenceService.next(NAME, () -> 1)).isEqualTo(2);
+    }
+
+    @Test
+    void next_ConcurrentCallers_NoDuplicateNoGap() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> results = new ArrayList<>();
+        Callable<Long> next = () -> {
+            start.await();
+            return sequenceService.next(NAME, () -> 1);
+        };
+
+        for (int i = 0; i < 100; i++) {
+            results.add(executor.submit(next));
+        }
+        start.countDown();
+
+        List<Long> numbers = new ArrayList<>();
+        for (Future<Long> result : results) {
+            numbers.add(result.get());
+        }
+        executor.shutdown();
+
+        then(numbers).containsExactlyInAnyOrderElementsOf(
+                LongStream.rangeClosed(1, 100).boxed().collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,71 @@
+package com.nexters.teambuilder.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * export 의 stream query 는 MySQL 에서 결과를 한 row 씩 받도록 fetch size 를 Integer.MIN_VALUE 로 준다.
+ * H2 는 음수 fetch size 를 거부하므로 테스트에서는 이 값을 무시하고 driver 기본값으로 읽는다.
+ */
+@TestConfiguration
+public class StreamingFetchSizeConfig {
+    @Bean
+    public static BeanPostProcessor streamingFetchSizeIgnoringDataSource() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource ? new StreamingFetchSizeIgnoringDataSource((DataSource) bean) : bean;
+            }
+        };
+    }
+
+    private static class StreamingFetchSizeIgnoringDataSource extends DelegatingDataSource {
+        StreamingFetchSizeIgnoringDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return proxy(Connection.class, super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return proxy(Connection.class, super.getConnection(username, password));
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target) {
+            InvocationHandler handler = (proxy, method, args) -> {
+                if ("setFetchSize".equals(method.getName()) && (int) args[0] == Integer.MIN_VALUE) {
+                    return null;
+                }
+                Object result = invoke(target, method, args);
+                if (result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                    return proxy((Class<Object>) method.getReturnType(), result);
+                }
+                return result;
+            };
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
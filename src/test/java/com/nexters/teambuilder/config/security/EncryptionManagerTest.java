@@ -0,0 +1,38 @@
+package com.nexters.teambuilder.config.security;
+
+import static org.assertj.core.api.Java6BDDAssertions.then;
+import static org.assertj.core.api.Java6BDDAssertions.thenThrownBy;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.crypto.BadPaddingException;
+import javax.crypto.IllegalBlockSizeException;
+import org.junit.jupiter.api.Test;
+
+class EncryptionManagerTest {
+    @Test
+    void encode_SameCipherText_AsBefore() throws Exception {
+        then(EncryptionManager.encode("originman")).isEqualTo("dQcgvuUKJfDZFO5tZpZaEQ==");
+        then(EncryptionManager.encode("originman")).isEqualTo("dQcgvuUKJfDZFO5tZpZaEQ==");
+        then(EncryptionManager.decode("c5jYY2TovJ1pYQPvnTy8lQ==")).isEqualTo("팀빌더");
+    }
+
+    @Test
+    void encodeAll_DecodeAll_RoundTrip() throws Exception {
+        List<String> plain = Arrays.asList("originman", "팀빌더", "");
+
+        List<String> encoded = EncryptionManager.encodeAll(plain);
+
+        then(encoded).hasSize(3).startsWith("dQcgvuUKJfDZFO5tZpZaEQ==");
+        then(EncryptionManager.decodeAll(encoded)).isEqualTo(plain);
+    }
+
+    @Test
+    void decode_InvalidCipherText_ThrowAndRecover() throws Exception {
+        thenThrownBy(() -> EncryptionManager.decode("aW52YWxpZA=="))
+                .isInstanceOfAny(BadPaddingException.class, IllegalBlockSizeException.class);
+
+        then(EncryptionManager.decode("dQcgvuUKJfDZFO5tZpZaEQ==")).isEqualTo("originman");
+    }
+}
@@ -0,0 +1,87 @@
+package com.nexters.teambuilder.config.security;
+
+import static org.assertj.core.api.Java6BDDAssertions.then;
+
+import java.util.Collections;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableMap;
+import com.nexters.teambuilder.config.date.DateService;
+import org.joda.time.DateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JWTTokenServiceTest {
+    private JWTTokenService tokenService;
+
+    private DateTime now;
+
+    private DateService dates;
+
+    @BeforeEach
+    void setUp() {
+        now = DateTime.now();
+        dates = () -> now;
+        tokenService = newTokenService(JWTTokenService.LEGACY_CODEC);
+    }
+
+    @Test
+    void verify_SameToken_ReuseVerifiedClaims() {
+        String token = tokenService.expiring(Collections.singletonMap("uuid", "uuid"));
+
+        Map<String, String> first = tokenService.verify(token);
+        Map<String, String> second = tokenService.verify(token);
+
+        then(first).containsEntry("uuid", "uuid");
+        then(second).isSameAs(first);
+        then(tokenService.verifiedClaims.size()).isEqualTo(1);
+    }
+
+    @Test
+    void verify_PastExpirationMinusSkew_VerifyAgain() {
+        String token = tokenService.expiring(Collections.singletonMap("uuid", "uuid"));
+        Map<String, String> first = tokenService.verify(token);
+
+        now = now.plusSeconds(3600 - 300 + 1);
+        Map<String, String> second = tokenService.verify(token);
+
+        then(second).containsEntry("uuid", "uuid").isNotSameAs(first);
+    }
+
+    @Test
+    void verify_TamperedToken_ReturnEmptyAndNotCached() {
+        String token = tokenService.expiring(Collections.singletonMap("uuid", "uuid"));
+
+        then(tokenService.verify(token + "x")).isEmpty();
+        then(tokenService.verifiedClaims.size()).isEqualTo(0);
+    }
+
+    @Test
+    void expiring_CompactCodec_KeepOnlyAuthenticationClaims() {
+        JWTTokenService compact = newTokenService(JWTTokenService.COMPACT_CODEC);
+        Map<String, String> attributes = ImmutableMap.of("uuid", "uuid", "role", "ROLE_USER", "name", "kiwon");
+
+        String compactToken = compact.expiring(attributes);
+        String legacyToken = tokenService.expiring(attributes);
+
+        then(compact.verify(compactToken))
+                .containsEntry("uuid", "uuid")
+                .containsEntry("role", "ROLE_USER")
+                .containsKeys("iss", "iat", "exp")
+                .doesNotContainKey("name");
+        then(compactToken.length()).isLessThan(legacyToken.length());
+    }
+
+    @Test
+    void verify_TokenIssuedByOtherCodec_VerifySameClaims() {
+        JWTTokenService compact = newTokenService(JWTTokenService.COMPACT_CODEC);
+        Map<String, String> attributes = Collections.singletonMap("uuid", "uuid");
+
+        then(compact.verify(tokenService.expiring(attributes))).containsEntry("uuid", "uuid");
+        then(tokenService.verify(compact.expiring(attributes))).containsEntry("uuid", "uuid");
+    }
+
+    private JWTTokenService newTokenService(String codec) {
+        return new JWTTokenService(dates, "team-builder", 3600, 300, "secret", 100, 600, codec);
+    }
+}
@@ -0,0 +1,54 @@
+package com.nexters.teambuilder.config.security;
+
+import static org.assertj.core.api.Java6BDDAssertions.then;
+import static org.assertj.core.api.Java6BDDAssertions.thenThrownBy;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PasswordHasherTest {
+    private PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    void matches_EncodedPassword_ReturnTrue() {
+        passwordHasher = new PasswordHasher(1, 4, 2);
+
+        String encoded = passwordHasher.encode("password1212").join();
+
+        then(passwordHasher.matches("password1212", encoded).join()).isTrue();
+        then(passwordHasher.matches("password", encoded).join()).isFalse();
+    }
+
+    @Test
+    void encodeAll_ManyPasswords_KeepOrder() {
+        passwordHasher = new PasswordHasher(1, 1, 2);
+
+        List<String> encoded = passwordHasher.encodeAll(Arrays.asList("password1", "password2", "password3"));
+
+        then(encoded).hasSize(3);
+        then(passwordHasher.matches("password1", encoded.get(0)).join()).isTrue();
+        then(passwordHasher.matches("password2", encoded.get(1)).join()).isTrue();
+        then(passwordHasher.matches("password3", encoded.get(2)).join()).isTrue();
+    }
+
+    @Test
+    void encode_QueueFull_RejectImmediately() {
+        passwordHasher = new PasswordHasher(1, 1, 1);
+
+        thenThrownBy(() -> IntStream.range(0, 10)
+                .mapToObj(i -> passwordHasher.encode("password1212"))
+                .toArray(CompletableFuture[]::new))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+}
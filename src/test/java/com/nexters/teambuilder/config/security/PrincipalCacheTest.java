@@ -0,0 +1,86 @@
+package com.nexters.teambuilder.config.security;
+
+import static org.assertj.core.api.Java6BDDAssertions.then;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import com.nexters.teambuilder.user.domain.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PrincipalCacheTest {
+    private PrincipalCache principalCache;
+
+    private AtomicInteger loadCount;
+
+    private Function<String, Optional<User>> loader;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(100, 30);
+        loadCount = new AtomicInteger();
+        loader = uuid -> {
+            loadCount.incrementAndGet();
+            User user = new User("originman", "password1212", "kiwon",
+                    13, User.Role.ROLE_USER, User.Position.DEVELOPER, "originman@nexters.com");
+            user.setUuid(uuid);
+            return Optional.of(user);
+        };
+    }
+
+    @Test
+    void get_SameUuid_LoadOnce() {
+        principalCache.get("uuid", loader);
+        principalCache.get("uuid", loader);
+
+        then(loadCount.get()).isEqualTo(1);
+        then(principalCache.stats().hitCount()).isEqualTo(1);
+        then(principalCache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void get_AfterInvalidate_LoadAgain() {
+        principalCache.get("uuid", loader);
+        principalCache.invalidate("uuid");
+        principalCache.get("uuid", loader);
+
+        then(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void get_CachedUser_ReturnNewInstanceWithoutPassword() {
+        User first = principalCache.get("uuid", loader).get();
+        first.updateSubmitIdea(true);
+        User second = principalCache.get("uuid", loader).get();
+
+        then(second).isNotSameAs(first);
+        then(second.isSubmitIdea()).isFalse();
+        then(second.getUuid()).isEqualTo("uuid");
+        then(second.getName()).isEqualTo("kiwon");
+        then(second.getPassword()).isNull();
+    }
+
+    @Test
+    void get_UnknownUser_NotCached() {
+        principalCache.get("unknown", uuid -> Optional.empty());
+
+        then(principalCache.get("unknown", loader).isPresent()).isTrue();
+        then(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    void bindTo_Registry_ExposeHitAndMissMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        principalCache.bindTo(registry);
+        principalCache.get("uuid", loader);
+        principalCache.get("uuid", loader);
+
+        then(registry.get("cache.gets").tag("cache", "principal").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+        then(registry.get("cache.gets").tag("cache", "principal").tag("result", "miss").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,68 @@
+package com.nexters.teambuilder.config.security;
+
+import static org.assertj.core.api.Java6BDDAssertions.then;
+
+import java.util.Optional;
+
+import com.nexters.teambuilder.user.domain.RefreshTokenRepository;
+import org.joda.time.DateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest
+class RefreshTokenStoreTest {
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private RefreshTokenStore refreshTokenStore;
+
+    private DateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = DateTime.now();
+        refreshTokenStore = new RefreshTokenStore(refreshTokenRepository, () -> now, 3600);
+    }
+
+    @Test
+    void consume_IssuedToken_ReturnUuidOnlyOnce() {
+        String token = refreshTokenStore.issue("uuid");
+
+        then(refreshTokenStore.consume(token)).isEqualTo(Optional.of("uuid"));
+        then(refreshTokenStore.consume(token)).isEqualTo(Optional.empty());
+    }
+
+    @Test
+    void consume_ExpiredToken_ReturnEmpty() {
+        String token = refreshTokenStore.issue("uuid");
+
+        now = now.plusSeconds(3600);
+
+        then(refreshTokenStore.consume(token)).isEqualTo(Optional.empty());
+    }
+
+    @Test
+    void revokeAll_UserTokens_RemoveOnlyThatUser() {
+        String token = refreshTokenStore.issue("uuid");
+        String otherToken = refreshTokenStore.issue("other");
+
+        refreshTokenStore.revokeAll("uuid");
+
+        then(refreshTokenStore.consume(token)).isEqualTo(Optional.empty());
+        then(refreshTokenStore.consume(otherToken)).isEqualTo(Optional.of("other"));
+    }
+
+    @Test
+    void purgeExpired_ExpiredTokens_Removed() {
+        refreshTokenStore.issue("uuid");
+        now = now.plusSeconds(1800);
+        refreshTokenStore.issue("other");
+
+        now = now.plusSeconds(1800);
+        refreshTokenStore.purgeExpired();
+
+        then(refreshTokenStore.size()).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,123 @@
+package com.nexters.teambuilder.config.security;
+
+import static org.assertj.core.api.Java6BDDAssertions.then;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import com.google.common.collect.ImmutableMap;
+import com.nexters.teambuilder.user.domain.User;
+import com.nexters.teambuilder.user.domain.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.RegexRequestMatcher;
+
+@ExtendWith(MockitoExtension.class)
+class TokenAuthenticationFilterTest {
+    @Mock
+    private TokenService tokenService;
+
+    @Mock
+    private TokenRevocationList revocationList;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry registry;
+
+    private TokenAuthenticationFilter filter;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        filter = new TokenAuthenticationFilter(new RegexRequestMatcher(".*apis.*", null), tokenService,
+                revocationList, new PrincipalCache(100, 30), userRepository, registry);
+        user = new User("originman", "password1212", "kiwon",
+                13, User.Role.ROLE_USER, User.Position.DEVELOPER, "originman@nexters.com");
+        user.setUuid("uuid");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_ValidToken_AuthenticateAndRecordStages() throws Exception {
+        //given
+        given(tokenService.verify("token")).willReturn(ImmutableMap.of("uuid", "uuid"));
+        given(revocationList.isRevoked(anyString(), any())).willReturn(false);
+        given(userRepository.findUserByUuid("uuid")).willReturn(Optional.of(user));
+        MockFilterChain chain = new MockFilterChain();
+
+        //when
+        filter.doFilter(request("Bearer token"), new MockHttpServletResponse(), chain);
+
+        //then
+        then(chain.getRequest()).isNotNull();
+        then(((User) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).getUuid())
+                .isEqualTo("uuid");
+        then(registry.get(TokenAuthenticationFilter.TIMER_NAME).timers()).hasSize(3)
+                .allMatch(timer -> timer.count() == 1);
+    }
+
+    @Test
+    void doFilter_RevokedToken_Unauthorized() throws Exception {
+        //given
+        given(tokenService.verify("token")).willReturn(ImmutableMap.of("uuid", "uuid"));
+        given(revocationList.isRevoked(anyString(), any())).willReturn(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        //when
+        filter.doFilter(request("Bearer token"), response, chain);
+
+        //then
+        then(response.getStatus()).isEqualTo(401);
+        then(chain.getRequest()).isNull();
+    }
+
+    @Test
+    void doFilter_MissingToken_Unauthorized() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request(null), response, new MockFilterChain());
+
+        then(response.getStatus()).isEqualTo(401);
+    }
+
+    @Test
+    void doFilter_UnprotectedUrl_PassThrough() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/users/sign-in");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        then(chain.getRequest()).isSameAs(request);
+        verifyZeroInteractions(tokenService);
+    }
+
+    private static MockHttpServletRequest request(String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/apis/users");
+        request.setServletPath("/apis/users");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,115 @@
+package com.nexters.teambuilder.config.security;
+
+import static org.assertj.core.api.Java6BDDAssertions.then;
+
+import java.util.Map;
+
+import com.google.common.collect.ImmutableMap;
+import com.nexters.teambuilder.config.date.DateService;
+import com.nexters.teambuilder.user.domain.TokenRevocationRepository;
+import org.joda.time.DateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest
+class TokenRevocationListTest {
+    private static final String TOKEN = "header.payload.signature";
+
+    @Autowired
+    private TokenRevocationRepository tokenRevocationRepository;
+
+    private TokenRevocationList revocationList;
+
+    private DateTime now;
+
+    private DateService dates;
+
+    @BeforeEach
+    void setUp() {
+        now = DateTime.now();
+        dates = () -> now;
+        revocationList = newRevocationList();
+    }
+
+    @Test
+    void isRevoked_RevokedToken_RevokedUntilExpiration() {
+        long expiresAtSec = now.plusSeconds(3600).getMillis() / 1000;
+        revocationList.revokeToken(TOKEN, expiresAtSec);
+
+        then(revocationList.isRevoked(TOKEN, claims("uuid", now))).isTrue();
+        then(revocationList.isRevoked("header.payload.other", claims("uuid", now))).isFalse();
+
+        now = now.plusSeconds(3600);
+        then(revocationList.isRevoked(TOKEN, claims("uuid", now))).isFalse();
+    }
+
+    @Test
+    void isRevoked_RevokedUser_RevokeOnlyTokensIssuedBefore() {
+        DateTime issuedAt = now;
+        now = now.plusSeconds(10);
+        revocationList.revokeUser("uuid");
+
+        then(revocationList.isRevoked(TOKEN, claims("uuid", issuedAt))).isTrue();
+        then(revocationList.isRevoked(TOKEN, claims("other", issuedAt))).isFalse();
+        then(revocationList.isRevoked(TOKEN, claims("uuid", now.plusSeconds(1)))).isFalse();
+    }
+
+    @Test
+    void purgeExpired_ExpiredEntries_Removed() {
+        revocationList.revokeUser("uuid");
+        revocationList.revokeToken(TOKEN, now.plusSeconds(60).getMillis() / 1000);
+
+        now = now.plusSeconds(3600 + 300);
+        revocationList.purgeExpired();
+
+        then(revocationList.size()).isEqualTo(0);
+    }
+
+    @Test
+    void load_PersistedRevocations_RestoreRevocations() {
+        revocationList.revokeToken(TOKEN, now.plusSeconds(3600).getMillis() / 1000);
+        revocationList.revokeUser("uuid");
+
+        TokenRevocationList restarted = newRevocationList();
+        restarted.load();
+
+        then(restarted.size()).isEqualTo(2);
+        then(restarted.isRevoked(TOKEN, claims("other", now.plusSeconds(1)))).isTrue();
+        then(restarted.isRevoked("header.payload.other", claims("uuid", now.minusSeconds(1)))).isTrue();
+    }
+
+    @Test
+    void sync_RevokedOnOtherNode_Revoked() {
+        revocationList.load();
+        TokenRevocationList otherNode = newRevocationList();
+        otherNode.load();
+
+        now = now.plusSeconds(1);
+        otherNode.revokeUser("uuid");
+        then(revocationList.isRevoked(TOKEN, claims("uuid", now.minusSeconds(1)))).isFalse();
+
+        revocationList.sync();
+        then(revocationList.isRevoked(TOKEN, claims("uuid", now.minusSeconds(1)))).isTrue();
+    }
+
+    @Test
+    void purgeExpired_ExpiredEntries_DeletedFromTable() {
+        revocationList.revokeUser("uuid");
+        revocationList.revokeToken(TOKEN, now.plusSeconds(60).getMillis() / 1000);
+
+        now = now.plusSeconds(120);
+        revocationList.purgeExpired();
+
+        then(tokenRevocationRepository.count()).isEqualTo(1L);
+    }
+
+    private TokenRevocationList newRevocationList() {
+        return new TokenRevocationList(tokenRevocationRepository, dates, 3600, 300, 100);
+    }
+
+    private static Map<String, String> claims(String uuid, DateTime issuedAt) {
+        return ImmutableMap.of("uuid", uuid, "iat", String.valueOf(issuedAt.getMillis() / 1000));
+    }
+}
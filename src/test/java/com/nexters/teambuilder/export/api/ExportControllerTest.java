@@ -0,0 +1,86 @@
+package com.nexters.teambuilder.export.api;
+
+import static org.assertj.core.api.Java6BDDAssertions.then;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+
+import com.nexters.teambuilder.export.service.ExportFormat;
+import com.nexters.teambuilder.export.service.ExportService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.restdocs.RestDocumentationExtension;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@ExtendWith({SpringExtension.class, RestDocumentationExtension.class})
+@AutoConfigureRestDocs(uriScheme = "https", uriHost = "${service.api-server}", uriPort = 80)
+@WebMvcTest(value = ExportController.class, secure = false, properties = "export.async-timeout-ms=600000")
+class ExportControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ExportService exportService;
+
+    @Test
+    void exportIdeas() throws Exception {
+        String csv = "ideaId,sessionNumber,orderNumber,type,title,authorUuid,authorName,voteNumber,selected,createdAt\n"
+                + "1,16,1,IDEA,모임모임 웹 서비스,63d4a1eb-b7ed-4b11-8d6c-a1f5b968e27e,kiwon,3,true,"
+                + "2019-08-17T23:41:51+09:00[Asia/Seoul]\n";
+        given(exportService.exportIdeas(any(), eq(16), eq(ExportFormat.CSV)))
+                .willReturn(out -> out.write(csv.getBytes(StandardCharsets.UTF_8)));
+
+        MvcResult result = this.mockMvc.perform(get("/apis/export/sessions/{sessionNumber}/ideas", 16)
+                .header("Authorization", "Bearer " + "<access_token>")
+                .param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        then(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(600000L);
+
+        this.mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"session-16-ideas.csv\""))
+                .andExpect(content().string(csv))
+                .andDo(document("export/get-ideas",
+                        requestHeaders(
+                                headerWithName("Authorization")
+                                        .description("Bearer oAuth2 access_token,"
+                                                + " admin계정이 아닐경우 error 발생 error code : 90007")),
+                        pathParameters(
+                                parameterWithName("sessionNumber").description("기수 번호")),
+                        requestParameters(
+                                parameterWithName("format").description("파일 형식 {csv, ndjson} (기본값 csv)")),
+                        responseHeaders(
+                                headerWithName("Content-Type").description("text/csv 또는 application/x-ndjson"),
+                                headerWithName("Content-Disposition").description("내려받을 파일 이름"))));
+    }
+
+    @Test
+    void exportUsers_UnknownFormat_BadRequest() throws Exception {
+        this.mockMvc.perform(get("/apis/export/users")
+                .header("Authorization", "Bearer " + "<access_token>")
+                .param("format", "xlsx"))
+                .andExpect(status().isBadRequest());
+    }
+}
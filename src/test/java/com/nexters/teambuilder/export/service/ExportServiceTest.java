@@ -0,0 +1,111 @@
+package com.nexters.teambuilder.export.service;
+
+import static com.nexters.teambuilder.idea.domain.Idea.Type.IDEA;
+import static org.assertj.core.api.Java6BDDAssertions.then;
+import static org.assertj.core.api.Java6BDDAssertions.thenThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import com.nexters.teambuilder.config.StreamingFetchSizeConfig;
+import com.nexters.teambuilder.idea.domain.Idea;
+import com.nexters.teambuilder.idea.domain.IdeaVote;
+import com.nexters.teambuilder.idea.exception.UserForbiddenActionException;
+import com.nexters.teambuilder.session.domain.Session;
+import com.nexters.teambuilder.session.domain.SessionUser;
+import com.nexters.teambuilder.session.exception.SessionNotFoundException;
+import com.nexters.teambuilder.user.domain.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@DataJpaTest
+@Import({ExportService.class, StreamingFetchSizeConfig.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class ExportServiceTest {
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ExportService exportService;
+
+    private final User admin = new User("admin", "password1212", "admin",
+            13, User.Role.ROLE_ADMIN, User.Position.DEVELOPER, "admin@nexters.com");
+
+    private Session session;
+
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        session = entityManager.persist(new Session(16, false, Collections.emptyList(), "https://logo/image/url", 3));
+        author = entityManager.persist(new User("originman", "password1212", "kiwon",
+                13, User.Role.ROLE_USER, User.Position.DEVELOPER, "originman@nexters.com"));
+        entityManager.persist(new SessionUser(session, author));
+        Idea idea = new Idea(session, "모임모임, \"웹\" 서비스", "모임모임 같이만드실분 구합니다",
+                author, "https://file.url", IDEA, Collections.emptyList());
+        idea.assignOrderNumber(1);
+        idea = entityManager.persist(idea);
+        entityManager.persist(new IdeaVote(idea.getIdeaId(), session.getSessionNumber(), author.getUuid()));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void exportIdeas_Csv_WriteHeaderAndEscapedRows() throws Exception {
+        String csv = write(exportService.exportIdeas(admin, 16, ExportFormat.CSV));
+
+        String[] lines = csv.split("\n");
+        then(lines).hasSize(2);
+        then(lines[0]).isEqualTo("ideaId,sessionNumber,orderNumber,type,title,authorUuid,authorName,voteNumber,"
+                + "selected,createdAt");
+        then(lines[1]).contains(",16,1,IDEA,\"모임모임, \"\"웹\"\" 서비스\"," + author.getUuid() + ",kiwon,0,false,");
+    }
+
+    @Test
+    void exportSessionUsers_Ndjson_WriteOneObjectPerLine() throws Exception {
+        String ndjson = write(exportService.exportSessionUsers(admin, 16, ExportFormat.NDJSON));
+
+        then(ndjson.split("\n")).hasSize(1);
+        then(ndjson).startsWith("{\"sessionNumber\":16,\"uuid\":\"" + author.getUuid() + "\",\"id\":\"originman\"")
+                .endsWith("}\n");
+    }
+
+    @Test
+    void exportIdeaVotes_Csv_WriteVotesOfSession() throws Exception {
+        String csv = write(exportService.exportIdeaVotes(admin, 16, ExportFormat.CSV));
+
+        then(csv.split("\n")).hasSize(2);
+        then(csv).contains(",16," + author.getUuid());
+    }
+
+    @Test
+    void exportUsers_Csv_WriteEveryUser() throws Exception {
+        String csv = write(exportService.exportUsers(admin, ExportFormat.CSV));
+
+        then(csv.split("\n")).hasSize(1 + (int) entityManager.getEntityManager()
+                .createQuery("select count(u) from User u", Long.class).getSingleResult().longValue());
+        then(csv).contains(author.getUuid() + ",originman,kiwon,13,ROLE_USER,DEVELOPER");
+    }
+
+    @Test
+    void exportIdeas_NotAdminOrUnknownSession_ThrowBeforeStreaming() {
+        thenThrownBy(() -> exportService.exportIdeas(author, 16, ExportFormat.CSV))
+                .isInstanceOf(UserForbiddenActionException.class);
+        thenThrownBy(() -> exportService.exportIdeas(admin, 99, ExportFormat.CSV))
+                .isInstanceOf(SessionNotFoundException.class);
+    }
+
+    private static String write(StreamingResponseBody body) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
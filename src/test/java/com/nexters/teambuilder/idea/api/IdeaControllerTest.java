@@ -1,10 +1,15 @@
 package com.nexters.teambuilder.idea.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nexters.teambuilder.idea.api.dto.IdeaFeedRequest;
+import com.nexters.teambuilder.idea.api.dto.IdeaFeedResponse;
 import com.nexters.teambuilder.idea.api.dto.IdeaRequest;
 import com.nexters.teambuilder.idea.api.dto.IdeaResponse;
+import com.nexters.teambuilder.idea.api.dto.IdeaSearchRequest;
+import com.nexters.teambuilder.idea.api.dto.IdeaTagFilterRequest;
 import com.nexters.teambuilder.idea.api.dto.MemberRequest;
 import com.nexters.teambuilder.idea.api.dto.MemberResponse;
+import com.nexters.teambuilder.idea.api.dto.TagFacetResponse;
 import com.nexters.teambuilder.idea.domain.Idea;
 import com.nexters.teambuilder.idea.domain.Member;
 import com.nexters.teambuilder.idea.exception.UserHasTeamException;
@@ -35,6 +40,7 @@ import java.util.stream.IntStream;
 
 import static com.nexters.teambuilder.idea.domain.Idea.Type.IDEA;
 import static com.nexters.teambuilder.session.domain.Period.PeriodType.IDEA_COLLECT;
+import static com.nexters.teambuilder.tag.domain.Tag.Type.DESIGNER;
 import static com.nexters.teambuilder.tag.domain.Tag.Type.DEVELOPER;
 import static java.time.ZonedDateTime.now;
 import static org.mockito.ArgumentMatchers.any;
@@ -224,6 +230,104 @@ class IdeaControllerTest {
                                 .andWithPrefix("data.[].", ideaResponseDescription)));
     }
 
+    @Test
+    void feed_Idea() throws Exception {
+        List<IdeaResponse> ideas = IntStream.of(12, 11)
+                .mapToObj(i -> {
+                    IdeaResponse ideaResponse = IdeaResponse.of(idea);
+                    ideaResponse.setIdeaId(i);
+                    return ideaResponse;
+                })
+                .collect(Collectors.toList());
+
+        given(ideaService.getIdeaFeed(any(User.class), any(IdeaFeedRequest.class)))
+                .willReturn(IdeaFeedResponse.of(ideas, 2));
+
+        this.mockMvc.perform(get("/apis/ideas/feed")
+                .param("cursor", "13")
+                .param("size", "2")
+                .param("sessionId", "1")
+                .param("type", "IDEA")
+                .param("selected", "false")
+                .header("Authorization", "Bearer " + "<access_token>"))
+                .andExpect(status().isOk())
+                .andDo(document("ideas/feed-idea",
+                        preprocessRequest(prettyPrint()), preprocessResponse(prettyPrint()),
+                        requestParameters(
+                                parameterWithName("cursor").description("이전 응답의 nextCursor, 첫 페이지는 생략").optional(),
+                                parameterWithName("size").description("가져올 아이디어 수 (기본 20, 최대 100)").optional(),
+                                parameterWithName("sessionId").description("session(기수) id 필터").optional(),
+                                parameterWithName("type").description("아이디어 타입 필터 {IDEA, NOTICE}").optional(),
+                                parameterWithName("selected").description("아이디어 선정 여부 필터").optional()),
+                        responseFields(baseResponseDescription)
+                                .and(fieldWithPath("data.nextCursor")
+                                        .description("다음 페이지 cursor, 마지막 페이지면 null").type(NUMBER).optional())
+                                .andWithPrefix("data.ideas[].", ideaResponseDescription)));
+    }
+
+    @Test
+    void search_Idea() throws Exception {
+        given(ideaService.searchIdeas(any(User.class), any(IdeaSearchRequest.class)))
+                .willReturn(Arrays.asList(IdeaResponse.of(idea)));
+
+        this.mockMvc.perform(get("/apis/ideas/search")
+                .param("query", "모임 웹")
+                .param("sessionId", "1")
+                .param("size", "10")
+                .header("Authorization", "Bearer " + "<access_token>"))
+                .andExpect(status().isOk())
+                .andDo(document("ideas/search-idea",
+                        preprocessRequest(prettyPrint()), preprocessResponse(prettyPrint()),
+                        requestParameters(
+                                parameterWithName("query").description("제목, 내용 검색어"),
+                                parameterWithName("sessionId").description("session(기수) id 필터").optional(),
+                                parameterWithName("size").description("가져올 아이디어 수 (기본 20, 최대 100)").optional()),
+                        responseFields(baseResponseDescription)
+                                .andWithPrefix("data[].", ideaResponseDescription)));
+    }
+
+    @Test
+    void filter_Idea_By_Tags() throws Exception {
+        given(ideaService.filterIdeasByTags(any(User.class), any(IdeaTagFilterRequest.class)))
+                .willReturn(Arrays.asList(IdeaResponse.of(idea)));
+
+        this.mockMvc.perform(get("/apis/ideas/tags/filter")
+                .param("tagIds", "1", "2")
+                .param("match", "ALL")
+                .param("sessionId", "1")
+                .header("Authorization", "Bearer " + "<access_token>"))
+                .andExpect(status().isOk())
+                .andDo(document("ideas/filter-idea-by-tags",
+                        preprocessRequest(prettyPrint()), preprocessResponse(prettyPrint()),
+                        requestParameters(
+                                parameterWithName("tagIds").description("필터링할 tag id 목록"),
+                                parameterWithName("match").description("{ALL: 모든 태그 포함(기본), ANY: 하나 이상 포함}").optional(),
+                                parameterWithName("sessionId").description("session(기수) id 필터").optional()),
+                        responseFields(baseResponseDescription)
+                                .andWithPrefix("data[].", ideaResponseDescription)));
+    }
+
+    @Test
+    void tag_Facets() throws Exception {
+        given(ideaService.tagFacets(any())).willReturn(Arrays.asList(
+                new TagFacetResponse(2, "UX 디자이너", DESIGNER, 3),
+                new TagFacetResponse(1, "ios 개발자", DEVELOPER, 5)));
+
+        this.mockMvc.perform(get("/apis/ideas/tags/facets")
+                .param("sessionId", "1")
+                .header("Authorization", "Bearer " + "<access_token>"))
+                .andExpect(status().isOk())
+                .andDo(document("ideas/tag-facets",
+                        preprocessRequest(prettyPrint()), preprocessResponse(prettyPrint()),
+                        requestParameters(
+                                parameterWithName("sessionId").description("session(기수) id, 생략하면 전체 아이디어 기준").optional()),
+                        responseFields(baseResponseDescription)
+                                .and(fieldWithPath("data[].tagId").description("tag id"),
+                                        fieldWithPath("data[].name").description("tag 이름"),
+                                        fieldWithPath("data[].type").description("tag 타입 {DEVELOPER, DESIGNER}"),
+                                        fieldWithPath("data[].ideaCount").description("tag 가 달린 아이디어 수"))));
+    }
+
     @Test
     void update_Idea() throws Exception {
         Map<String, Object> input = new LinkedHashMap<>();
@@ -0,0 +1,155 @@
+package com.nexters.teambuilder.idea.domain;
+
+import static com.nexters.teambuilder.idea.domain.Idea.Type.IDEA;
+import static com.nexters.teambuilder.idea.domain.Idea.Type.NOTICE;
+import static com.nexters.teambuilder.tag.domain.Tag.Type.DESIGNER;
+import static com.nexters.teambuilder.tag.domain.Tag.Type.DEVELOPER;
+import static org.assertj.core.api.Java6BDDAssertions.then;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.nexters.teambuilder.idea.api.dto.IdeaResponse;
+import com.nexters.teambuilder.session.domain.Session;
+import com.nexters.teambuilder.tag.domain.Tag;
+import com.nexters.teambuilder.user.domain.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class IdeaRepositoryTest {
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private IdeaRepository ideaRepository;
+
+    private Session session;
+
+    private Session otherSession;
+
+    private User author;
+
+    private List<Tag> tags;
+
+    @BeforeEach
+    void setUp() {
+        session = entityManager.persist(new Session(1, false, Collections.emptyList(), "https://logo/image/url", 3));
+        otherSession = entityManager.persist(new Session(2, false, Collections.emptyList(), "https://logo/image/url", 3));
+        author = entityManager.persist(new User("originman", "password1212", "kiwon",
+                13, User.Role.ROLE_USER, User.Position.DEVELOPER, "originman@nexters.com"));
+        tags = Arrays.asList(entityManager.persist(new Tag("ios 개발자", DEVELOPER)),
+                entityManager.persist(new Tag("UX 디자이너", DESIGNER)));
+    }
+
+    @Test
+    void findFeedIdeaIds_WithCursor_ReturnOlderIdeasLatestFirst() {
+        for (int i = 0; i < 5; i++) {
+            persistIdea(session, IDEA);
+        }
+        persistIdea(otherSession, IDEA);
+        persistIdea(session, NOTICE);
+
+        List<Integer> firstPage = ideaRepository.findFeedIdeaIds(null, session.getSessionId(), IDEA, null,
+                PageRequest.of(0, 3));
+        Integer cursor = firstPage.get(firstPage.size() - 1);
+        List<Integer> secondPage = ideaRepository.findFeedIdeaIds(cursor, session.getSessionId(), IDEA, null,
+                PageRequest.of(0, 3));
+
+        then(firstPage).hasSize(3).isSortedAccordingTo(Collections.reverseOrder());
+        then(secondPage).hasSize(2).allMatch(ideaId -> ideaId < cursor);
+        then(ideaRepository.findAllById(secondPage))
+                .allMatch(idea -> idea.getSession().getSessionId().equals(session.getSessionId()))
+                .allMatch(idea -> idea.getType() == IDEA);
+    }
+
+    @Test
+    void findFeedIdeaIds_WithoutFilters_ReturnAllIdeas() {
+        persistIdea(session, IDEA);
+        persistIdea(otherSession, NOTICE);
+
+        List<Integer> feed = ideaRepository.findFeedIdeaIds(null, null, null, null, PageRequest.of(0, 10));
+
+        then(feed).hasSize(2);
+    }
+
+    @Test
+    void findAllWithDetailsBySessionId_MappedToResponse_UseSingleStatement() {
+        for (int i = 0; i < 5; i++) {
+            persistIdeaWithMember(session, i);
+        }
+        persistIdea(otherSession, IDEA);
+        Statistics statistics = clearAndGetStatistics();
+
+        List<IdeaResponse> ideas = ideaRepository.findAllWithDetailsBySessionId(session.getSessionId()).stream()
+                .map(IdeaResponse::of)
+                .collect(Collectors.toList());
+
+        then(ideas).hasSize(5)
+                .allMatch(idea -> idea.getTags().size() == 2)
+                .allMatch(idea -> idea.getMembers().size() == 2);
+        then(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findAllWithDetails_MappedToResponse_UseSingleStatement() {
+        for (int i = 0; i < 5; i++) {
+            persistIdeaWithMember(i % 2 == 0 ? session : otherSession, i);
+        }
+        Statistics statistics = clearAndGetStatistics();
+
+        List<IdeaResponse> ideas = ideaRepository.findAllWithDetails().stream()
+                .map(IdeaResponse::of)
+                .collect(Collectors.toList());
+
+        then(ideas).hasSize(5).extracting(IdeaResponse::getIdeaId).isSorted();
+        then(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void increaseVoteNumbers_SelectedIdeas_IncreaseOnlySelected() {
+        Idea first = persistIdea(session, IDEA);
+        Idea second = persistIdea(session, IDEA);
+        Idea notSelected = persistIdea(session, IDEA);
+
+        int updated = ideaRepository.increaseVoteNumbers(Arrays.asList(first.getIdeaId(), second.getIdeaId()));
+        entityManager.clear();
+
+        then(updated).isEqualTo(2);
+        then(ideaRepository.findById(first.getIdeaId()).get().getVoteNumber()).isEqualTo(1);
+        then(ideaRepository.findById(second.getIdeaId()).get().getVoteNumber()).isEqualTo(1);
+        then(ideaRepository.findById(notSelected.getIdeaId()).get().getVoteNumber()).isEqualTo(0);
+    }
+
+    private Statistics clearAndGetStatistics() {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private Idea persistIdea(Session session, Idea.Type type) {
+        return entityManager.persist(new Idea(session, "모임모임 웹 서비스", "모임모임 같이만드실분 구합니다",
+                author, "https://file.url", type, Collections.emptyList()));
+    }
+
+    private Idea persistIdeaWithMember(Session session, int index) {
+        User member = entityManager.persist(new User("member" + index, "password1212", "member",
+                13, User.Role.ROLE_USER, User.Position.DESIGNER, "member@nexters.com"));
+        Idea idea = new Idea(session, "모임모임 웹 서비스", "모임모임 같이만드실분 구합니다",
+                author, "https://file.url", IDEA, tags);
+        idea.getMembers().add(member);
+        return entityManager.persist(idea);
+    }
+}
@@ -0,0 +1,142 @@
+package com.nexters.teambuilder.idea.domain;
+
+import static com.nexters.teambuilder.idea.domain.Idea.Type.IDEA;
+import static org.assertj.core.api.Java6BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.nexters.teambuilder.session.domain.Session;
+import com.nexters.teambuilder.session.domain.SessionRepository;
+import com.nexters.teambuilder.session.domain.SessionUser;
+import com.nexters.teambuilder.session.domain.SessionUserRepository;
+import com.nexters.teambuilder.user.domain.User;
+import com.nexters.teambuilder.user.domain.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 각 스레드가 독립된 트랜잭션으로 투표하도록 테스트 트랜잭션을 사용하지 않는다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdeaVoteConcurrencyTest {
+    private static final int VOTER_COUNT = 200;
+
+    private static final int MAX_VOTE_COUNT = 3;
+
+    @Autowired
+    private IdeaRepository ideaRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SessionUserRepository sessionUserRepository;
+
+    private Session session;
+
+    private User author;
+
+    private Idea idea;
+
+    @BeforeEach
+    void setUp() {
+        session = sessionRepository.save(
+                new Session(1, false, Collections.emptyList(), "https://logo/image/url", MAX_VOTE_COUNT));
+        author = userRepository.save(new User("originman", "password1212", "kiwon",
+                13, User.Role.ROLE_USER, User.Position.DEVELOPER, "originman@nexters.com"));
+        idea = ideaRepository.save(new Idea(session, "모임모임 웹 서비스", "모임모임 같이만드실분 구합니다",
+                author, "https://file.url", IDEA, Collections.emptyList()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionUserRepository.deleteAll();
+        ideaRepository.deleteAll();
+        sessionRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void increaseVoteNumber_ConcurrentVoters_NoVoteLost() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        Callable<Integer> vote = () -> {
+            start.await();
+            return ideaRepository.increaseVoteNumber(idea.getIdeaId());
+        };
+
+        for (int i = 0; i < VOTER_COUNT; i++) {
+            results.add(executor.submit(vote));
+        }
+        start.countDown();
+
+        int updated = 0;
+        for (Future<Integer> result : results) {
+            updated += result.get();
+        }
+        executor.shutdown();
+
+        then(updated).isEqualTo(VOTER_COUNT);
+        then(ideaRepository.findById(idea.getIdeaId()).get().getVoteNumber()).isEqualTo(VOTER_COUNT);
+    }
+
+    @Test
+    void increaseVoteCount_ConcurrentVotesOverQuota_AcceptOnlyMaxVoteCount() throws Exception {
+        sessionUserRepository.save(new SessionUser(session, author));
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        Callable<Integer> vote = () -> {
+            start.await();
+            return sessionUserRepository.increaseVoteCount(session.getSessionId(), author.getUuid(), MAX_VOTE_COUNT);
+        };
+
+        for (int i = 0; i < 50; i++) {
+            results.add(executor.submit(vote));
+        }
+        start.countDown();
+
+        int accepted = 0;
+        for (Future<Integer> result : results) {
+            accepted += result.get();
+        }
+        executor.shutdown();
+
+        then(accepted).isEqualTo(MAX_VOTE_COUNT);
+        then(sessionUserRepository.findAll()).extracting(SessionUser::getVoteCount).containsExactly(MAX_VOTE_COUNT);
+    }
+
+    @Test
+    void increaseVoteCount_NotSessionUser_Reject() {
+        then(sessionUserRepository.increaseVoteCount(session.getSessionId(), author.getUuid(), MAX_VOTE_COUNT))
+                .isEqualTo(0);
+        then(sessionUserRepository.existsByIdSessionIdAndIdUuid(session.getSessionId(), author.getUuid())).isFalse();
+    }
+
+    @Test
+    void save_AfterVotes_KeepVoteNumber() {
+        ideaRepository.increaseVoteNumber(idea.getIdeaId());
+        idea.select();
+
+        ideaRepository.save(idea);
+
+        then(ideaRepository.findById(idea.getIdeaId()).get().getVoteNumber()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,24 @@
+package com.nexters.teambuilder.idea.domain;
+
+import static org.assertj.core.api.Java6BDDAssertions.then;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest
+class IdeaVoteRepositoryTest {
+    @Autowired
+    private IdeaVoteRepository ideaVoteRepository;
+
+    @Test
+    void saveAllInBatch_ValidInput_SaveAllVotes() {
+        ideaVoteRepository.saveAllInBatch(Arrays.asList(new IdeaVote(1, 16, "uuid"),
+                new IdeaVote(2, 16, "uuid"), new IdeaVote(3, 16, "uuid")));
+
+        then(ideaVoteRepository.findAllByUuidAndSessionNumber("uuid", 16))
+                .extracting(IdeaVote::getIdeaId).containsExactlyInAnyOrder(1, 2, 3);
+    }
+}
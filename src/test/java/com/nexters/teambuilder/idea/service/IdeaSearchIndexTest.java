@@ -0,0 +1,69 @@
+package com.nexters.teambuilder.idea.service;
+
+import static org.assertj.core.api.Java6BDDAssertions.then;
+import static org.mockito.BDDMockito.given;
+
+import java.util.Arrays;
+
+import com.nexters.teambuilder.idea.api.dto.IdeaSearchDocument;
+import com.nexters.teambuilder.idea.domain.IdeaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class IdeaSearchIndexTest {
+    private IdeaSearchIndex ideaSearchIndex;
+    @Mock
+    private IdeaRepository ideaRepository;
+
+    @BeforeEach
+    void setUp() {
+        ideaSearchIndex = new IdeaSearchIndex(ideaRepository);
+
+        given(ideaRepository.findAllSearchDocuments()).willReturn(Arrays.asList(
+                new IdeaSearchDocument(1, 1, "모임모임 웹 서비스", "모임모임 같이만드실분 구합니다"),
+                new IdeaSearchDocument(2, 1, "여행 일정 공유 앱", "React Native 로 만드는 여행 앱"),
+                new IdeaSearchDocument(3, 2, "스터디 모임 관리", "스터디 출석 체크 서비스"),
+                new IdeaSearchDocument(4, 2, "가계부", "월별 지출 분석")));
+        ideaSearchIndex.rebuild();
+    }
+
+    @Test
+    void search_KoreanQuery_RankTitleMatchFirst() {
+        then(ideaSearchIndex.search("모임", null, 10)).containsExactly(1, 3);
+    }
+
+    @Test
+    void search_WithSessionId_FilterOtherSessions() {
+        then(ideaSearchIndex.search("서비스", 2, 10)).containsExactly(3);
+    }
+
+    @Test
+    void search_OneSyllableQuery_MatchInsideWord() {
+        ideaSearchIndex.index(new IdeaSearchDocument(5, 1, "앱개발 스터디", "모바일앱 같이 만들어요"));
+
+        then(ideaSearchIndex.search("앱", null, 10)).containsExactlyInAnyOrder(2, 5);
+    }
+
+    @Test
+    void search_LatinQuery_IgnoreCase() {
+        then(ideaSearchIndex.search("react", null, 10)).containsExactly(2);
+    }
+
+    @Test
+    void search_WithLimit_ReturnTopK() {
+        then(ideaSearchIndex.search("모임 서비스 여행", null, 2)).hasSize(2);
+    }
+
+    @Test
+    void index_UpdatedIdea_ReplaceOldTerms() {
+        ideaSearchIndex.index(new IdeaSearchDocument(4, 2, "공동 가계부 모임", "월별 지출 분석"));
+        ideaSearchIndex.delete(1);
+
+        then(ideaSearchIndex.search("모임", null, 10)).containsExactlyInAnyOrder(3, 4);
+        then(ideaSearchIndex.search("웹", null, 10)).isEmpty();
+    }
+}
@@ -0,0 +1,217 @@
+package com.nexters.teambuilder.idea.service;
+
+import static com.nexters.teambuilder.idea.domain.Idea.Type.IDEA;
+import static com.nexters.teambuilder.tag.domain.Tag.Type.DEVELOPER;
+import static java.time.ZonedDateTime.now;
+import static org.assertj.core.api.Java6BDDAssertions.then;
+import static org.assertj.core.api.Java6BDDAssertions.thenThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.nexters.teambuilder.common.Service.SequenceService;
+import com.nexters.teambuilder.config.security.PrincipalCache;
+import com.nexters.teambuilder.favorite.domain.Favorite;
+import com.nexters.teambuilder.favorite.domain.FavoriteRepository;
+import com.nexters.teambuilder.idea.api.dto.IdeaRequest;
+import com.nexters.teambuilder.idea.api.dto.IdeaResponse;
+import com.nexters.teambuilder.idea.domain.Idea;
+import com.nexters.teambuilder.idea.domain.IdeaRepository;
+import com.nexters.teambuilder.idea.domain.IdeaVote;
+import com.nexters.teambuilder.idea.domain.IdeaVoteRepository;
+import com.nexters.teambuilder.idea.exception.NotHasRightVoteException;
+import com.nexters.teambuilder.session.domain.Session;
+import com.nexters.teambuilder.session.domain.SessionRepository;
+import com.nexters.teambuilder.session.domain.SessionUserRepository;
+import com.nexters.teambuilder.session.service.SessionSnapshotCache;
+import com.nexters.teambuilder.session.service.VoteTallyBroadcaster;
+import com.nexters.teambuilder.tag.domain.Tag;
+import com.nexters.teambuilder.tag.domain.TagRepository;
+import com.nexters.teambuilder.user.domain.User;
+import com.nexters.teambuilder.user.domain.UserRepository;
+import com.nexters.teambuilder.user.service.UserDirectoryIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class IdeaServiceTest {
+    private IdeaService ideaService;
+    @Mock
+    private IdeaRepository ideaRepository;
+    @Mock
+    private IdeaVoteRepository ideaVoteRepository;
+    @Mock
+    private SessionRepository sessionRepository;
+    @Mock
+    private SessionUserRepository sessionUserRepository;
+    @Mock
+    private TagRepository tagRepository;
+    @Mock
+    private FavoriteRepository favoriteRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private SessionSnapshotCache sessionSnapshotCache;
+    @Mock
+    private VoteTallyBroadcaster voteTallyBroadcaster;
+    @Mock
+    private IdeaSearchIndex ideaSearchIndex;
+    @Mock
+    private IdeaTagIndex ideaTagIndex;
+    @Mock
+    private PrincipalCache principalCache;
+    @Mock
+    private SequenceService sequenceService;
+    @Mock
+    private UserDirectoryIndex userDirectoryIndex;
+    @Captor
+    private ArgumentCaptor<List<IdeaVote>> ideaVotesCaptor;
+
+    private Session session;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        this.ideaService = new IdeaService(ideaRepository, ideaVoteRepository, sessionRepository, sessionUserRepository,
+                tagRepository, favoriteRepository, userRepository, sessionSnapshotCache, voteTallyBroadcaster,
+                ideaSearchIndex, ideaTagIndex, principalCache, sequenceService,
+                userDirectoryIndex);
+
+        session = new Session(1, false, Collections.emptyList(), "https://logo/image/url", 3);
+        user = new User("originman", "password1212", "kiwon",
+                13, User.Role.ROLE_USER, User.Position.DEVELOPER, "originman@nexters.com");
+        user.setUuid("uuid");
+    }
+
+    @Test
+    void getIdeaListBySessionId_WithFavorites_ReturnLatestFirstWithOrderNumber() {
+        //given
+        List<Idea> ideas = IntStream.rangeClosed(1, 5)
+                .mapToObj(this::ideaOf)
+                .collect(Collectors.toList());
+
+        given(ideaRepository.findAllWithDetailsBySessionId(anyInt())).willReturn(ideas);
+        given(favoriteRepository.findAllByUuid(anyString()))
+                .willReturn(Arrays.asList(new Favorite("uuid", 2), new Favorite("uuid", 5)));
+
+        //when
+        List<IdeaResponse> result = ideaService.getIdeaListBySessionId(1, user);
+
+        //then
+        then(result).extracting(IdeaResponse::getIdeaId).containsExactly(5, 4, 3, 2, 1);
+        then(result).extracting(IdeaResponse::getOrderNumber).containsExactly(5, 4, 3, 2, 1);
+        then(result).extracting(IdeaResponse::isFavorite).containsExactly(true, false, false, true, false);
+    }
+
+    @Test
+    void getIdeaList_WithoutFavorites_ReturnNoFavorite() {
+        //given
+        given(ideaRepository.findAllWithDetails()).willReturn(Arrays.asList(ideaOf(3), ideaOf(1), ideaOf(2)));
+        given(favoriteRepository.findAllByUuid(anyString())).willReturn(Collections.emptyList());
+
+        //when
+        List<IdeaResponse> result = ideaService.getIdeaList(user);
+
+        //then
+        then(result).extracting(IdeaResponse::getIdeaId).containsExactly(3, 2, 1);
+        then(result).extracting(IdeaResponse::getOrderNumber).containsExactly(3, 2, 1);
+        then(result).extracting(IdeaResponse::isFavorite).containsOnly(false);
+    }
+
+    @Test
+    void createIdea_CachedPrincipal_SaveReloadedAuthor() {
+        //given
+        User author = new User("originman", "password1212", "kiwon",
+                13, User.Role.ROLE_USER, User.Position.DEVELOPER, "originman@nexters.com");
+        author.setUuid("uuid");
+        author.activate();
+        IdeaRequest request = new IdeaRequest(1, "모임모임 웹 서비스", "모임모임 같이만드실분 구합니다",
+                Collections.emptyList(), "https://file.url", IDEA, false);
+
+        given(sessionRepository.findById(1)).willReturn(Optional.of(session));
+        given(userRepository.findUserByUuid("uuid")).willReturn(Optional.of(author));
+        given(sequenceService.next(anyString(), any(LongSupplier.class))).willReturn(1L);
+        given(ideaRepository.save(any(Idea.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        //when
+        IdeaResponse response = ideaService.createIdea(user, request);
+
+        //then
+        verify(userRepository, times(1)).save(author);
+        verify(principalCache, times(1)).invalidate("uuid");
+        then(author.isSubmitIdea()).isTrue();
+        then(user.isSubmitIdea()).isFalse();
+        then(response.getOrderNumber()).isEqualTo(1);
+    }
+
+    @Test
+    void ideasVote_FiveIdeas_WriteBallotInBatch() {
+        //given
+        user.activate();
+        List<Idea> ideas = IntStream.rangeClosed(1, 5)
+                .mapToObj(this::ideaOf)
+                .collect(Collectors.toList());
+        List<Integer> ideaIds = Arrays.asList(1, 2, 3, 4, 5);
+
+        given(ideaRepository.findAllWithDetailsByIdeaIdIn(ideaIds)).willReturn(ideas);
+
+        //when
+        ideaService.ideasVote(user, ideaIds);
+
+        //then
+        verify(ideaVoteRepository, times(1)).saveAllInBatch(ideaVotesCaptor.capture());
+        verify(ideaRepository, times(1)).increaseVoteNumbers(ideaIds);
+        verify(userRepository, times(1)).updateVoted("uuid", 5);
+        verify(principalCache, times(1)).invalidate("uuid");
+        then(ideaVotesCaptor.getValue()).extracting(IdeaVote::getIdeaId).containsExactly(1, 2, 3, 4, 5);
+        then(user.getVoteCount()).isEqualTo(0);
+    }
+
+    @Test
+    void ideaVote_QuotaExhausted_ThrowException() {
+        //given
+        given(ideaRepository.findById(1)).willReturn(Optional.of(ideaOf(1)));
+        given(sessionUserRepository.increaseVoteCount(session.getSessionId(), "uuid", 3)).willReturn(0);
+        given(sessionUserRepository.existsByIdSessionIdAndIdUuid(session.getSessionId(), "uuid")).willReturn(true);
+
+        //when, then
+        thenThrownBy(() -> ideaService.ideaVote(user, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(ideaRepository, times(0)).increaseVoteNumber(anyInt());
+    }
+
+    @Test
+    void ideaVote_NotSessionUser_ThrowNotHasRightVoteException() {
+        //given
+        given(ideaRepository.findById(1)).willReturn(Optional.of(ideaOf(1)));
+        given(sessionUserRepository.increaseVoteCount(session.getSessionId(), "uuid", 3)).willReturn(0);
+        given(sessionUserRepository.existsByIdSessionIdAndIdUuid(session.getSessionId(), "uuid")).willReturn(false);
+
+        //when, then
+        thenThrownBy(() -> ideaService.ideaVote(user, 1))
+                .isInstanceOf(NotHasRightVoteException.class);
+    }
+
+    private Idea ideaOf(int ideaId) {
+        return new Idea(ideaId, session, "아이디어 " + ideaId, "내용", user, "https://file.url", false, IDEA,
+                Collections.singleton(new Tag("ios 개발자", DEVELOPER)), 0, ideaId, now(), now(),
+                Collections.singleton(user));
+    }
+}
@@ -0,0 +1,70 @@
+package com.nexters.teambuilder.idea.service;
+
+import static com.nexters.teambuilder.idea.api.dto.IdeaTagFilterRequest.Match.ALL;
+import static com.nexters.teambuilder.idea.api.dto.IdeaTagFilterRequest.Match.ANY;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Java6BDDAssertions.then;
+import static org.mockito.BDDMockito.given;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import com.nexters.teambuilder.idea.api.dto.IdeaTagDocument;
+import com.nexters.teambuilder.idea.domain.IdeaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class IdeaTagIndexTest {
+    private IdeaTagIndex ideaTagIndex;
+    @Mock
+    private IdeaRepository ideaRepository;
+
+    @BeforeEach
+    void setUp() {
+        ideaTagIndex = new IdeaTagIndex(ideaRepository);
+
+        given(ideaRepository.findAllTagDocuments()).willReturn(Arrays.asList(
+                new IdeaTagDocument(1, 1, 10),
+                new IdeaTagDocument(1, 1, 20),
+                new IdeaTagDocument(2, 1, 10),
+                new IdeaTagDocument(3, 1, 20),
+                new IdeaTagDocument(4, 2, 10),
+                new IdeaTagDocument(4, 2, 20),
+                new IdeaTagDocument(5, 2, null)));
+        ideaTagIndex.rebuild();
+    }
+
+    @Test
+    void filter_AllMatch_ReturnIdeasHavingEveryTagLatestFirst() {
+        then(ideaTagIndex.filter(Arrays.asList(10, 20), ALL, null)).containsExactly(4, 1);
+    }
+
+    @Test
+    void filter_AnyMatchWithSessionId_ReturnIdeasInSession() {
+        then(ideaTagIndex.filter(Arrays.asList(10, 20), ANY, 1)).containsExactly(3, 2, 1);
+    }
+
+    @Test
+    void filter_UnknownTag_ReturnEmpty() {
+        then(ideaTagIndex.filter(Arrays.asList(10, 99), ALL, null)).isEmpty();
+    }
+
+    @Test
+    void facetCounts_WithSessionId_CountIdeasPerTag() {
+        then(ideaTagIndex.facetCounts(2)).containsOnly(entry(10, 1), entry(20, 1));
+        then(ideaTagIndex.facetCounts(null)).containsOnly(entry(10, 3), entry(20, 3));
+    }
+
+    @Test
+    void index_Retagged_MoveIdeaToNewTags() {
+        ideaTagIndex.index(2, 1, Collections.singletonList(20));
+        ideaTagIndex.delete(4);
+
+        then(ideaTagIndex.filter(Collections.singletonList(10), ANY, null)).containsExactly(1);
+        then(ideaTagIndex.facetCounts(null)).containsOnly(entry(10, 1), entry(20, 3));
+    }
+}
@@ -40,9 +40,12 @@ import com.nexters.teambuilder.idea.domain.Idea;
 import com.nexters.teambuilder.idea.service.IdeaService;
 import com.nexters.teambuilder.session.api.dto.SessionNumber;
 import com.nexters.teambuilder.session.api.dto.SessionRequest;
+import com.nexters.teambuilder.session.api.dto.SessionResponse;
 import com.nexters.teambuilder.session.domain.Period;
 import com.nexters.teambuilder.session.domain.Session;
 import com.nexters.teambuilder.session.service.SessionService;
+import com.nexters.teambuilder.session.service.SessionSnapshotService;
+import com.nexters.teambuilder.session.service.VoteTallyBroadcaster;
 import com.nexters.teambuilder.tag.api.dto.TagResponse;
 import com.nexters.teambuilder.tag.domain.Tag;
 import com.nexters.teambuilder.tag.service.TagService;
@@ -76,6 +79,12 @@ class SessionControllerTest {
     @MockBean
     private IdeaService ideaService;
 
+    @MockBean
+    private SessionSnapshotService sessionSnapshotService;
+
+    @MockBean
+    private VoteTallyBroadcaster voteTallyBroadcaster;
+
     private ObjectMapper mapper;
 
     private User user;
@@ -195,11 +204,8 @@ class SessionControllerTest {
                 .mapToObj(i -> new VotedIdeaResponse(i, "title" + i))
                 .collect(Collectors.toList());
 
-        given(sessionService.getSession(anyInt())).willReturn(session);
-        given(ideaService.getIdeaListBySessionId(anyInt(), any(User.class))).willReturn(ideas);
-        given(ideaService.votedIdeas(any(User.class), anyInt())).willReturn(votedIdeas);
-        given(sessionService.sessionNumberList()).willReturn(sessionNumbers);
-        given(tagService.getTagList()).willReturn(tags);
+        SessionResponse sessionResponse = SessionResponse.of(session, sessionNumbers, tags, ideas, votedIdeas);
+        given(sessionSnapshotService.getSession(any(), anyInt())).willReturn(sessionResponse);
 
         this.mockMvc.perform(get("/apis/sessions/{sessionNumber}", 1)
                 .header("Authorization", "Bearer " + "<access_token>"))
@@ -231,11 +237,8 @@ class SessionControllerTest {
                 .mapToObj(i -> new VotedIdeaResponse(i, "title" + i))
                 .collect(Collectors.toList());
 
-        given(sessionService.getLatestSession()).willReturn(session);
-        given(ideaService.getIdeaListBySessionId(anyInt(), any(User.class))).willReturn(ideas);
-        given(ideaService.votedIdeas(any(User.class), anyInt())).willReturn(votedIdeas);
-        given(sessionService.sessionNumberList()).willReturn(sessionNumbers);
-        given(tagService.getTagList()).willReturn(tags);
+        SessionResponse sessionResponse = SessionResponse.of(session, sessionNumbers, tags, ideas, votedIdeas);
+        given(sessionSnapshotService.getLatestSession(any())).willReturn(sessionResponse);
 
         this.mockMvc.perform(get("/apis/sessions/latest")
                 .header("Authorization", "Bearer " + "<access_token>"))
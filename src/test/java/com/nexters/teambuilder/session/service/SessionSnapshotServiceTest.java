@@ -0,0 +1,120 @@
+package com.nexters.teambuilder.session.service;
+
+import static com.nexters.teambuilder.idea.domain.Idea.Type.IDEA;
+import static org.assertj.core.api.Java6BDDAssertions.then;
+import static org.assertj.core.api.Java6BDDAssertions.thenThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import com.nexters.teambuilder.idea.api.dto.IdeaResponse;
+import com.nexters.teambuilder.idea.domain.Idea;
+import com.nexters.teambuilder.idea.service.IdeaService;
+import com.nexters.teambuilder.session.api.dto.SessionNumber;
+import com.nexters.teambuilder.session.api.dto.SessionResponse;
+import com.nexters.teambuilder.session.domain.Session;
+import com.nexters.teambuilder.tag.service.TagService;
+import com.nexters.teambuilder.user.domain.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class SessionSnapshotServiceTest {
+    private SessionSnapshotService sessionSnapshotService;
+    private SessionSnapshotCache sessionSnapshotCache;
+    @Mock
+    private SessionService sessionService;
+    @Mock
+    private TagService tagService;
+    @Mock
+    private IdeaService ideaService;
+
+    private User user;
+
+    private List<IdeaResponse> ideas;
+
+    @BeforeEach
+    void setUp() {
+        sessionSnapshotCache = new SessionSnapshotCache();
+        sessionSnapshotService = new SessionSnapshotService(sessionService, tagService, ideaService,
+                sessionSnapshotCache);
+
+        user = new User("originman", "password1212", "kiwon",
+                13, User.Role.ROLE_USER, User.Position.DEVELOPER, "originman@nexter.com");
+
+        Session session = new Session(1, false, Collections.emptyList(), "https://logo/image/url", 3);
+        ReflectionTestUtils.setField(session, "sessionId", 1);
+
+        given(sessionService.getSession(1)).willReturn(session);
+        given(sessionService.sessionNumberList()).willReturn(Arrays.asList(new SessionNumber(1)));
+        given(tagService.getTagList()).willReturn(Collections.emptyList());
+        ideas = Arrays.asList(ideaOf(session, 2), ideaOf(session, 1));
+        given(ideaService.getIdeaListBySessionId(1)).willReturn(ideas);
+        given(ideaService.votedIdeas(any(User.class), anyInt())).willReturn(Collections.emptyList());
+    }
+
+    @Test
+    void getSession_CalledTwice_LoadSnapshotOnce() {
+        given(ideaService.favoriteIdeaIds(user)).willReturn(Collections.emptySet());
+
+        sessionSnapshotService.getSession(user, 1);
+        sessionSnapshotService.getSession(user, 1);
+
+        verify(sessionService, times(1)).getSession(1);
+        verify(ideaService, times(1)).getIdeaListBySessionId(1);
+        verify(ideaService, times(2)).votedIdeas(user, 1);
+    }
+
+    @Test
+    void getSession_AfterEvict_ReloadSnapshot() {
+        given(ideaService.favoriteIdeaIds(user)).willReturn(Collections.emptySet());
+
+        sessionSnapshotService.getSession(user, 1);
+        sessionSnapshotCache.evict(1);
+        sessionSnapshotService.getSession(user, 1);
+
+        verify(ideaService, times(2)).getIdeaListBySessionId(1);
+    }
+
+    @Test
+    void getSession_LoadFailed_ReloadOnNextCall() {
+        given(ideaService.getIdeaListBySessionId(1)).willThrow(new IllegalStateException()).willReturn(ideas);
+        given(ideaService.favoriteIdeaIds(user)).willReturn(Collections.emptySet());
+
+        thenThrownBy(() -> sessionSnapshotService.getSession(user, 1)).isInstanceOf(IllegalStateException.class);
+        SessionResponse response = sessionSnapshotService.getSession(user, 1);
+
+        then(response.getIdeas()).hasSize(2);
+        verify(ideaService, times(2)).getIdeaListBySessionId(1);
+    }
+
+    @Test
+    void getSession_WithFavorite_OverlayWithoutChangingSnapshot() {
+        given(ideaService.favoriteIdeaIds(user)).willReturn(new HashSet<>(Arrays.asList(2)));
+
+        SessionResponse favoriteView = sessionSnapshotService.getSession(user, 1);
+        given(ideaService.favoriteIdeaIds(user)).willReturn(Collections.emptySet());
+        SessionResponse plainView = sessionSnapshotService.getSession(user, 1);
+
+        then(favoriteView.getIdeas()).extracting(IdeaResponse::isFavorite).containsExactly(true, false);
+        then(plainView.getIdeas()).extracting(IdeaResponse::isFavorite).containsExactly(false, false);
+    }
+
+    private IdeaResponse ideaOf(Session session, int ideaId) {
+        Idea idea = new Idea(session, "모임모임 웹 서비스", "모임모임 같이만드실분 구합니다", user,
+                "https://file.url", IDEA, Collections.emptyList());
+        ReflectionTestUtils.setField(idea, "ideaId", ideaId);
+        return IdeaResponse.of(idea);
+    }
+}
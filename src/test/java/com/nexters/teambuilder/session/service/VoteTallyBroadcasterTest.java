@@ -0,0 +1,68 @@
+package com.nexters.teambuilder.session.service;
+
+import static org.assertj.core.api.Java6BDDAssertions.then;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import com.nexters.teambuilder.idea.api.dto.VoteTally;
+import com.nexters.teambuilder.idea.domain.IdeaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class VoteTallyBroadcasterTest {
+    private VoteTallyBroadcaster voteTallyBroadcaster;
+    @Mock
+    private IdeaRepository ideaRepository;
+    @Captor
+    private ArgumentCaptor<Collection<Integer>> ideaIdsCaptor;
+
+    @BeforeEach
+    void setUp() {
+        voteTallyBroadcaster = new VoteTallyBroadcaster(ideaRepository, 60, 1, 16);
+    }
+
+    @Test
+    void broadcast_ManySubscribersAndVotes_QueryOncePerInterval() {
+        given(ideaRepository.findVoteTalliesBySessionId(1)).willReturn(Collections.emptyList());
+        given(ideaRepository.findVoteTalliesByIdeaIdIn(anyCollection()))
+                .willReturn(Arrays.asList(new VoteTally(1, 3), new VoteTally(2, 1)));
+        voteTallyBroadcaster.subscribe(1, 16);
+        voteTallyBroadcaster.subscribe(1, 16);
+
+        voteTallyBroadcaster.markVoted(16, Arrays.asList(1, 2));
+        voteTallyBroadcaster.markVoted(16, Collections.singletonList(1));
+        voteTallyBroadcaster.broadcast();
+        voteTallyBroadcaster.broadcast();
+
+        verify(ideaRepository, times(1)).findVoteTalliesByIdeaIdIn(ideaIdsCaptor.capture());
+        then(ideaIdsCaptor.getValue()).containsExactlyInAnyOrder(1, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        voteTallyBroadcaster.shutdown();
+    }
+
+    @Test
+    void markVoted_WithoutSubscriber_SkipBroadcast() {
+        voteTallyBroadcaster.markVoted(16, Arrays.asList(1, 2));
+
+        voteTallyBroadcaster.broadcast();
+
+        verify(ideaRepository, never()).findVoteTalliesByIdeaIdIn(anyCollection());
+    }
+}
@@ -1,10 +1,17 @@
 package com.nexters.teambuilder.user.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nexters.teambuilder.idea.api.dto.MemberResponse;
+import com.nexters.teambuilder.user.api.dto.DeactivateAllResponse;
 import com.nexters.teambuilder.user.api.dto.SignInResponse;
+import com.nexters.teambuilder.user.api.dto.UserImportError;
+import com.nexters.teambuilder.user.api.dto.UserImportResponse;
 import com.nexters.teambuilder.user.api.dto.UserRequest;
 import com.nexters.teambuilder.user.api.dto.UserResponse;
+import com.nexters.teambuilder.user.api.dto.UserSearchRequest;
 import com.nexters.teambuilder.user.domain.User;
+import com.nexters.teambuilder.user.exception.UserIdAlreadyExistsException;
+import com.nexters.teambuilder.user.service.UserImportService;
 import com.nexters.teambuilder.user.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,24 +20,34 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.RestDocumentationExtension;
 import org.springframework.restdocs.payload.FieldDescriptor;
+import org.springframework.restdocs.request.ParameterDescriptor;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static com.nexters.teambuilder.user.domain.User.Position.DEVELOPER;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
@@ -38,7 +55,9 @@ import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuild
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith({SpringExtension.class, RestDocumentationExtension.class})
@@ -51,6 +70,9 @@ class UserControllerTest {
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private UserImportService userImportService;
+
     private User user;
 
     private ObjectMapper mapper;
@@ -63,6 +85,7 @@ class UserControllerTest {
 
     private FieldDescriptor[] signInResponseDescription = new FieldDescriptor[]{
             fieldWithPath("accessToken").description("access token for user"),
+            fieldWithPath("refreshToken").description("access token 재발급을 위한 refresh token (1회용)"),
             fieldWithPath("role").description("user role")
     };
 
@@ -82,6 +105,12 @@ class UserControllerTest {
             fieldWithPath("createdAt").description("user 가입 일자"),
     };
 
+    private ParameterDescriptor[] pageRequestDescription = new ParameterDescriptor[]{
+            parameterWithName("page").description("페이지 번호 (1부터 시작, 기본값 1)"),
+            parameterWithName("size").description("페이지 크기 (기본값 2000, 최대 2000)"),
+            parameterWithName("sort").description("정렬 기준 {property},{asc|desc} (기본값 createdAt,asc 이고 가입 일자가 같으면 uuid,asc)")
+    };
+
     private FieldDescriptor[] userRequestDescription = new FieldDescriptor[]{
             fieldWithPath("id").description("아이디"),
             fieldWithPath("password").description("비밀번호"),
@@ -136,6 +165,7 @@ class UserControllerTest {
         input.put("email", "originman@nexter.com");
         input.put("authenticationCode", 12345);
 
+        given(userService.isIdUsable("originman")).willReturn(true);
         given(userService.createUser(any(UserRequest.class))).willReturn(UserResponse.of(user));
 
         this.mockMvc.perform(post("/users/sign-up")
@@ -154,6 +184,28 @@ class UserControllerTest {
                                 .andWithPrefix("data.", userResponseDescription)));
     }
 
+    @Test
+    void signUp_IdTakenConcurrently_BadRequest() throws Exception {
+        Map<String, Object> input = new LinkedHashMap<>();
+        input.put("id", "originman");
+        input.put("password", "password1212");
+        input.put("name", "kiwon");
+        input.put("nextersNumber", 13);
+        input.put("role", "ROLE_USER");
+        input.put("position", "DEVELOPER");
+        input.put("email", "originman@nexter.com");
+        input.put("authenticationCode", 12345);
+
+        given(userService.isIdUsable("originman")).willReturn(true);
+        given(userService.createUser(any(UserRequest.class))).willThrow(new UserIdAlreadyExistsException());
+
+        this.mockMvc.perform(post("/users/sign-up")
+                .contentType(MediaType.APPLICATION_JSON_UTF8)
+                .content(mapper.writeValueAsString(input)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("message").value("id: error.id.unique."));
+    }
+
     @Test
     void signIn() throws Exception {
         Map<String, Object> input = new LinkedHashMap<>();
@@ -161,12 +213,16 @@ class UserControllerTest {
         input.put("password", "password1212");
 
         given(userService.signIn(anyString(), anyString()))
-                .willReturn(new SignInResponse("access token", User.Role.ROLE_USER));
+                .willReturn(CompletableFuture.completedFuture(new SignInResponse("access token", "refresh token", User.Role.ROLE_USER)));
 
-        this.mockMvc.perform(post("/users/sign-in")
+        MvcResult signInResult = this.mockMvc.perform(post("/users/sign-in")
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED_VALUE)
                 .param("id", "originman'")
                 .param("password", "password1212'"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(asyncDispatch(signInResult))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("data.accessToken").value("access token"))
                 .andDo(document("users/post-signIn",
@@ -179,6 +235,67 @@ class UserControllerTest {
                                         .andWithPrefix("data.", signInResponseDescription)));
     }
 
+    @Test
+    void refresh() throws Exception {
+        given(userService.refresh(anyString()))
+                .willReturn(new SignInResponse("new access token", "new refresh token", User.Role.ROLE_USER));
+
+        this.mockMvc.perform(post("/users/token/refresh")
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+                .param("refreshToken", "refresh token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data.accessToken").value("new access token"))
+                .andExpect(jsonPath("data.refreshToken").value("new refresh token"))
+                .andDo(document("users/post-refresh",
+                        preprocessRequest(prettyPrint()), preprocessResponse(prettyPrint()),
+                        requestParameters(
+                                parameterWithName("refreshToken").description("로그인 또는 이전 갱신에서 받은 refresh token")
+                        ),
+                        responseFields(baseResponseDescription)
+                                .andWithPrefix("data.", signInResponseDescription)));
+    }
+
+    @Test
+    void logout() throws Exception {
+        this.mockMvc.perform(post("/apis/users/logout")
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+                .header("Authorization", "Bearer " + "<access_token>")
+                .param("refreshToken", "refresh token"))
+                .andExpect(status().isOk())
+                .andDo(document("users/post-logout",
+                        preprocessRequest(prettyPrint()), preprocessResponse(prettyPrint()),
+                        requestHeaders(headerWithName("Authorization").description("폐기할 access token")),
+                        requestParameters(
+                                parameterWithName("refreshToken").description("함께 폐기할 refresh token (optional)")
+                        ),
+                        responseFields(baseResponseDescription)));
+
+        verify(userService).logout("<access_token>", "refresh token");
+    }
+
+    @Test
+    void signIn_HasherSaturated_ServiceUnavailable() throws Exception {
+        given(userService.signIn(anyString(), anyString())).willThrow(new RejectedExecutionException());
+
+        this.mockMvc.perform(post("/users/sign-in")
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+                .param("id", "originman")
+                .param("password", "password1212"))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    void list_NoSort_SortByCreatedAtThenUuid() throws Exception {
+        given(userService.userList(any(Pageable.class))).willReturn(Collections.emptyList());
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/apis/users")
+                .header("Authorization", "Bearer " + "<access_token>"))
+                .andExpect(status().isOk());
+
+        verify(userService).userList(PageRequest.of(0, UserController.DEFAULT_USER_PAGE_SIZE,
+                Sort.by("createdAt", "uuid")));
+    }
+
     @Test
     void list() throws Exception {
         List<UserResponse> users = IntStream.range(1, 11).mapToObj(i -> {
@@ -189,14 +306,18 @@ class UserControllerTest {
             return UserResponse.of(user);
         }).collect(Collectors.toList());
 
-        given(userService.userList()).willReturn(users);
+        given(userService.userList(any(Pageable.class))).willReturn(users);
 
         this.mockMvc.perform(MockMvcRequestBuilders.get("/apis/users")
                 .contentType(MediaType.APPLICATION_JSON_UTF8)
-                .header("Authorization", "Bearer " + "<access_token>"))
+                .header("Authorization", "Bearer " + "<access_token>")
+                .param("page", "1")
+                .param("size", "20")
+                .param("sort", "name,asc"))
                 .andExpect(status().isOk())
                 .andDo(document("users/list-users",
                         preprocessRequest(prettyPrint()), preprocessResponse(prettyPrint()),
+                        requestParameters(pageRequestDescription),
                         responseFields(baseResponseDescription)
                                 .andWithPrefix("data.[].", userResponseDescription)));
     }
@@ -211,18 +332,65 @@ class UserControllerTest {
             return UserResponse.of(user);
         }).collect(Collectors.toList());
 
-        given(userService.activatedUserList()).willReturn(users);
+        given(userService.activatedUserList(any(Pageable.class))).willReturn(users);
 
         this.mockMvc.perform(MockMvcRequestBuilders.get("/apis/activated/users")
                 .contentType(MediaType.APPLICATION_JSON_UTF8)
-                .header("Authorization", "Bearer " + "<access_token>"))
+                .header("Authorization", "Bearer " + "<access_token>")
+                .param("page", "1")
+                .param("size", "20")
+                .param("sort", "name,asc"))
                 .andExpect(status().isOk())
                 .andDo(document("users/list-activated-users",
                         preprocessRequest(prettyPrint()), preprocessResponse(prettyPrint()),
+                        requestParameters(pageRequestDescription),
                         responseFields(baseResponseDescription)
                                 .andWithPrefix("data.[].", userResponseDescription)));
     }
 
+    @Test
+    void searchUsers() throws Exception {
+        List<MemberResponse> members = Arrays.asList(
+                new MemberResponse("63d4a1eb-b7ed-4b11-8d6c-a1f5b968e27e", "kiwon", "김기원", 16, DEVELOPER, false),
+                new MemberResponse("8f2c91d0-5a3e-4c7b-9e0a-2b6d4f1c3e57", "kimdana", "김다나", 16, DEVELOPER, false));
+
+        given(userService.searchUsers(any(UserSearchRequest.class))).willReturn(members);
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/apis/users/search")
+                .header("Authorization", "Bearer " + "<access_token>")
+                .param("q", "김")
+                .param("position", "DEVELOPER")
+                .param("hasTeam", "false")
+                .param("sessionId", "1")
+                .param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data[0].name").value("김기원"))
+                .andDo(document("users/search-users",
+                        preprocessRequest(prettyPrint()), preprocessResponse(prettyPrint()),
+                        requestParameters(
+                                parameterWithName("q").description("이름 또는 아이디의 앞부분 (대소문자 구분 없음)"),
+                                parameterWithName("position").description("포지션 필터 {DESIGNER, DEVELOPER}").optional(),
+                                parameterWithName("hasTeam").description("팀 소속 여부 필터").optional(),
+                                parameterWithName("sessionId").description("기수 회원 필터, 해당 기수의 session id").optional(),
+                                parameterWithName("size").description("최대 결과 수 (1 ~ 100, 기본값 20)").optional()),
+                        responseFields(baseResponseDescription)
+                                .andWithPrefix("data.[].",
+                                        fieldWithPath("uuid").description("user uuid"),
+                                        fieldWithPath("id").description("아이디"),
+                                        fieldWithPath("name").description("user 이름"),
+                                        fieldWithPath("nextersNumber").description("user 기수"),
+                                        fieldWithPath("position").description("user Position {DESIGNER, DEVELOPER}"),
+                                        fieldWithPath("hasTeam").description("user 팀 소속 여부"))));
+    }
+
+    @Test
+    void searchUsers_BlankQuery_BadRequest() throws Exception {
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/apis/users/search")
+                .header("Authorization", "Bearer " + "<access_token>")
+                .param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void updateUser() throws Exception {
         Map<String, Object> input = new LinkedHashMap<>();
@@ -295,16 +463,24 @@ class UserControllerTest {
             return UserResponse.of(user);
         }).collect(Collectors.toList());
 
-        given(userService.deactivateAllUsers()).willReturn(users);
+        given(userService.deactivateAllUsers(true)).willReturn(new DeactivateAllResponse(10, 24, users));
 
         this.mockMvc.perform(put("/apis/users/deactivate/all")
                 .contentType(MediaType.APPLICATION_JSON_UTF8)
-                .header("Authorization", "Bearer " + "<access_token>"))
+                .header("Authorization", "Bearer " + "<access_token>")
+                .param("withUsers", "true"))
                 .andExpect(status().isOk())
+                .andExpect(jsonPath("data.deactivatedCount").value(10))
                 .andDo(document("users/put-deactivate-all",
                         preprocessRequest(prettyPrint()), preprocessResponse(prettyPrint()),
+                        requestParameters(
+                                parameterWithName("withUsers").description("초기화된 회원 목록을 함께 받을지 여부 (기본값 false)")
+                        ),
                         responseFields(baseResponseDescription)
-                                .andWithPrefix("data.[].", userResponseDescription)));
+                                .and(fieldWithPath("data.deactivatedCount").description("비활성화된 회원 수"),
+                                        fieldWithPath("data.sessionUserResetCount").description("초기화된 기수 회원 수"),
+                                        fieldWithPath("data.users").description("초기화된 회원 목록, withUsers=true 일 때만 포함").optional())
+                                .andWithPrefix("data.users.[].", userResponseDescription)));
     }
 
     @Test
@@ -327,5 +503,40 @@ class UserControllerTest {
                                 fieldWithPath("uuids").description("제명하려는 회원들의 uuid 목록")),
                         responseFields(baseResponseDescription)));
     }
-}
 
+    @Test
+    void importUsers() throws Exception {
+        String csv = "id,password,name,nextersNumber,role,position,email\n"
+                + "originman,password1212,kiwon,13,ROLE_USER,DEVELOPER,originman@nexters.com\n"
+                + "designer,password1212,dana,13,ROLE_USER,DESIGNER,designer@nexters.com\n"
+                + ",password1212,noid,13,ROLE_USER,DESIGNER,noid@nexters.com\n";
+
+        given(userImportService.importUsers(any(), any(), eq("text/csv"), eq(16)))
+                .willReturn(new UserImportResponse(2, 1,
+                        Arrays.asList(new UserImportError(4, null, "id 는 필수입니다."))));
+
+        this.mockMvc.perform(post("/apis/users/import")
+                .content(csv)
+                .contentType("text/csv")
+                .header("Authorization", "Bearer " + "<access_token>")
+                .param("sessionNumber", "16"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data.importedCount").value(2))
+                .andDo(document("users/post-import",
+                        preprocessResponse(prettyPrint()),
+                        requestHeaders(
+                                headerWithName("Authorization")
+                                        .description("Bearer oAuth2 access_token,"
+                                                + " admin계정이 아닐경우 error 발생 error code : 90007"),
+                                headerWithName("Content-Type").description("text/csv 또는 application/x-ndjson")),
+                        requestParameters(
+                                parameterWithName("sessionNumber")
+                                        .description("가입한 회원을 추가할 기수 번호, 없으면 기수 회원으로 추가하지 않는다").optional()),
+                        responseFields(baseResponseDescription)
+                                .and(fieldWithPath("data.importedCount").description("가입된 회원 수"),
+                                        fieldWithPath("data.failedCount").description("가입하지 못한 행 수"),
+                                        fieldWithPath("data.errors[].line").description("가입하지 못한 행의 줄 번호 (header 포함, 최대 1000개)"),
+                                        fieldWithPath("data.errors[].id").description("가입하지 못한 행의 아이디").optional(),
+                                        fieldWithPath("data.errors[].message").description("가입하지 못한 이유"))));
+    }
+}
@@ -0,0 +1,95 @@
+package com.nexters.teambuilder.user.domain;
+
+import static org.assertj.core.api.Java6BDDAssertions.then;
+
+import java.util.List;
+
+import com.nexters.teambuilder.user.api.dto.UserResponse;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class UserRepositoryTest {
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 5; i++) {
+            User user = persistUser("member" + i, User.Role.ROLE_USER);
+            if (i % 2 == 0) {
+                user.activate();
+            }
+        }
+        persistUser("admin", User.Role.ROLE_ADMIN).activate();
+        User dismissed = persistUser("dismissed", User.Role.ROLE_USER);
+        dismissed.activate();
+        dismissed.dismiss(1);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findUserResponsesByRole_FilterAdminAndDismissed_PagedWithoutCount() {
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<UserResponse> firstPage = userRepository.findUserResponsesByRole(User.Role.ROLE_USER,
+                PageRequest.of(0, 3, Sort.by("id")));
+        List<UserResponse> secondPage = userRepository.findUserResponsesByRole(User.Role.ROLE_USER,
+                PageRequest.of(1, 3, Sort.by("id")));
+
+        then(firstPage).extracting(UserResponse::getId)
+                .containsExactly("member0", "member1", "member2");
+        then(secondPage).extracting(UserResponse::getId)
+                .containsExactly("member3", "member4");
+        then(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void findActivatedUserResponsesByRole_OnlyActivated_WithoutLoadingSessionUsers() {
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<UserResponse> users = userRepository.findActivatedUserResponsesByRole(User.Role.ROLE_USER,
+                PageRequest.of(0, 10, Sort.by("id")));
+
+        then(users).extracting(UserResponse::getId).containsExactly("member0", "member2", "member4");
+        then(users).allMatch(UserResponse::isActivated);
+        then(statistics.getEntityLoadCount()).isEqualTo(0);
+    }
+
+    @Test
+    void deactivateAll_AllUsers_ResetInSingleStatement() {
+        int total = (int) userRepository.count();
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        int updated = userRepository.deactivateAll();
+
+        then(updated).isEqualTo(total);
+        then(statistics.getPrepareStatementCount()).isEqualTo(1);
+        then(userRepository.findAllUserResponses()).hasSize(total)
+                .noneMatch(UserResponse::isActivated)
+                .allMatch(user -> user.getVoteCount() == 0 && !user.isVoted());
+    }
+
+    private User persistUser(String id, User.Role role) {
+        return entityManager.persist(new User(id, "password1212", "kiwon",
+                13, role, User.Position.DEVELOPER, id + "@nexters.com"));
+    }
+}
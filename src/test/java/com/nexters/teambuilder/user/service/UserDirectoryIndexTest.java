@@ -0,0 +1,110 @@
+package com.nexters.teambuilder.user.service;
+
+import static com.nexters.teambuilder.user.domain.User.Position.DESIGNER;
+import static com.nexters.teambuilder.user.domain.User.Position.DEVELOPER;
+import static org.assertj.core.api.Java6BDDAssertions.then;
+import static org.mockito.BDDMockito.given;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import com.nexters.teambuilder.idea.api.dto.MemberResponse;
+import com.nexters.teambuilder.session.domain.Session;
+import com.nexters.teambuilder.session.domain.SessionUser;
+import com.nexters.teambuilder.session.domain.SessionUserRepository;
+import com.nexters.teambuilder.user.domain.User;
+import com.nexters.teambuilder.user.domain.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class UserDirectoryIndexTest {
+    private UserDirectoryIndex userDirectoryIndex;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private SessionUserRepository sessionUserRepository;
+
+    @BeforeEach
+    void setUp() {
+        userDirectoryIndex = new UserDirectoryIndex(userRepository, sessionUserRepository);
+
+        given(userRepository.findMemberResponsesByRole(User.Role.ROLE_USER)).willReturn(Arrays.asList(
+                new MemberResponse("uuid1", "kiwon", "김기원", 16, DEVELOPER, false),
+                new MemberResponse("uuid2", "kimdana", "김다나", 16, DESIGNER, true),
+                new MemberResponse("uuid3", "originman", "Kim Origin", 15, DEVELOPER, false),
+                new MemberResponse("uuid4", "park", "박민수", 16, DEVELOPER, false)));
+        given(sessionUserRepository.findAllIds()).willReturn(Arrays.asList(
+                sessionUserId(1, "uuid1"), sessionUserId(1, "uuid2"), sessionUserId(2, "uuid3")));
+        userDirectoryIndex.rebuild();
+    }
+
+    @Test
+    void search_NamePrefix_ReturnInNameOrder() {
+        then(userDirectoryIndex.search("김", null, null, null, 10))
+                .extracting(MemberResponse::getUuid).containsExactly("uuid1", "uuid2");
+    }
+
+    @Test
+    void search_IdOrNamePartPrefix_IgnoreCaseWithoutDuplicates() {
+        then(userDirectoryIndex.search("KI", null, null, null, 10))
+                .extracting(MemberResponse::getUuid).containsExactlyInAnyOrder("uuid1", "uuid2", "uuid3");
+        then(userDirectoryIndex.search("orig", null, null, null, 10))
+                .extracting(MemberResponse::getUuid).containsExactly("uuid3");
+    }
+
+    @Test
+    void search_WithFilters_ReturnOnlyMatched() {
+        then(userDirectoryIndex.search("김", DESIGNER, null, null, 10))
+                .extracting(MemberResponse::getUuid).containsExactly("uuid2");
+        then(userDirectoryIndex.search("김", null, false, null, 10))
+                .extracting(MemberResponse::getUuid).containsExactly("uuid1");
+        then(userDirectoryIndex.search("k", null, null, 2, 10))
+                .extracting(MemberResponse::getUuid).containsExactly("uuid3");
+    }
+
+    @Test
+    void search_WithLimit_StopAtLimit() {
+        then(userDirectoryIndex.search("k", null, null, null, 2)).hasSize(2);
+    }
+
+    @Test
+    void index_ChangedAndDismissedUsers_UpdateIncrementally() {
+        User renamed = user("uuid4", "park", "김민수");
+        renamed.updateHasTeam(true);
+        User dismissed = user("uuid1", "kiwon", "김기원");
+        dismissed.dismiss(1);
+
+        userDirectoryIndex.index(Arrays.asList(renamed, dismissed));
+        userDirectoryIndex.addSessionMembers(1, Collections.singletonList("uuid4"));
+
+        then(userDirectoryIndex.search("박", null, null, null, 10)).isEmpty();
+        then(userDirectoryIndex.search("김", null, true, 1, 10))
+                .extracting(MemberResponse::getUuid).containsExactly("uuid2", "uuid4");
+        then(userDirectoryIndex.search("kiwon", null, null, null, 10)).isEmpty();
+    }
+
+    @Test
+    void clearHasTeamAndRemoveSession_ApplyToEveryUser() {
+        userDirectoryIndex.clearHasTeam();
+        userDirectoryIndex.removeSession(1);
+
+        then(userDirectoryIndex.search("김", null, true, null, 10)).isEmpty();
+        then(userDirectoryIndex.search("김", null, null, 1, 10)).isEmpty();
+    }
+
+    private static User user(String uuid, String id, String name) {
+        User user = new User(id, "password1212", name, 16, User.Role.ROLE_USER, DEVELOPER, id + "@nexters.com");
+        user.setUuid(uuid);
+        return user;
+    }
+
+    private static SessionUser.Id sessionUserId(Integer sessionId, String uuid) {
+        Session session = new Session(sessionId, false, Collections.emptyList(), "https://logo/image/url", 3);
+        session.setSessionId(sessionId);
+        return new SessionUser(session, user(uuid, uuid, uuid)).getId();
+    }
+}
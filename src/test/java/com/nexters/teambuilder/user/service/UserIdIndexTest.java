@@ -0,0 +1,62 @@
+package com.nexters.teambuilder.user.service;
+
+import static org.assertj.core.api.Java6BDDAssertions.then;
+import static org.mockito.BDDMockito.given;
+
+import java.util.Arrays;
+
+import com.nexters.teambuilder.user.domain.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class UserIdIndexTest {
+    private UserIdIndex userIdIndex;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        userIdIndex = new UserIdIndex(userRepository);
+    }
+
+    @Test
+    void mightBeTaken_BeforeRebuild_AlwaysTrue() {
+        then(userIdIndex.mightBeTaken("originman")).isTrue();
+    }
+
+    @Test
+    void mightBeTaken_AfterRebuild_OnlyTakenIds() {
+        given(userRepository.findAllIds()).willReturn(Arrays.asList("originman", "kiwon"));
+
+        userIdIndex.rebuild();
+
+        then(userIdIndex.mightBeTaken("originman")).isTrue();
+        then(userIdIndex.mightBeTaken("kiwon")).isTrue();
+        then(userIdIndex.mightBeTaken("nexters")).isFalse();
+    }
+
+    @Test
+    void add_NewId_MightBeTaken() {
+        given(userRepository.findAllIds()).willReturn(Arrays.asList("originman"));
+        userIdIndex.rebuild();
+
+        userIdIndex.add("nexters");
+
+        then(userIdIndex.mightBeTaken("nexters")).isTrue();
+    }
+
+    @Test
+    void add_BeforeRebuild_KeptAfterRebuild() {
+        given(userRepository.findAllIds()).willReturn(Arrays.asList("originman"));
+
+        userIdIndex.add("nexters");
+        userIdIndex.rebuild();
+
+        then(userIdIndex.mightBeTaken("nexters")).isTrue();
+    }
+}
@@ -0,0 +1,124 @@
+package com.nexters.teambuilder.user.service;
+
+import static org.assertj.core.api.Java6BDDAssertions.then;
+import static org.assertj.core.api.Java6BDDAssertions.thenThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.nexters.teambuilder.config.security.PasswordHasher;
+import com.nexters.teambuilder.idea.exception.UserForbiddenActionException;
+import com.nexters.teambuilder.session.domain.Session;
+import com.nexters.teambuilder.session.domain.SessionRepository;
+import com.nexters.teambuilder.session.domain.SessionUserRepository;
+import com.nexters.teambuilder.user.api.dto.UserImportError;
+import com.nexters.teambuilder.user.api.dto.UserImportResponse;
+import com.nexters.teambuilder.user.domain.User;
+import com.nexters.teambuilder.user.domain.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * batch 마다 별도 트랜잭션으로 저장하므로 테스트 트랜잭션을 사용하지 않는다.
+ */
+@DataJpaTest(properties = "user.import.batch-size=2")
+@Import({UserImportService.class, PasswordHasher.class, UserIdIndex.class, UserDirectoryIndex.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserImportServiceTest {
+    private static final List<String> IMPORTED_IDS = Arrays.asList("originman", "designer", "developer");
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private SessionUserRepository sessionUserRepository;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    private final User admin = new User("admin", "password1212", "admin",
+            13, User.Role.ROLE_ADMIN, User.Position.DEVELOPER, "admin@nexters.com");
+
+    @AfterEach
+    void tearDown() {
+        sessionUserRepository.deleteAll();
+        sessionRepository.deleteAll();
+        IMPORTED_IDS.forEach(id -> userRepository.findUserById(id).ifPresent(userRepository::delete));
+    }
+
+    @Test
+    void importUsers_CsvWithInvalidRows_ImportValidRowsAndReportErrors() throws Exception {
+        Session session = sessionRepository.save(
+                new Session(16, false, Collections.emptyList(), "https://logo/image/url", 3));
+        String csv = "id,password,name,nextersNumber,role,position,email\n"
+                + "originman,password1212,kiwon,13,ROLE_USER,DEVELOPER,originman@nexters.com\n"
+                + "\"designer\",\"pass,word\",dana,13,,DESIGNER,\n"
+                + ",password1212,noid,13,ROLE_USER,DESIGNER,noid@nexters.com\n"
+                + "originman,password1212,again,13,ROLE_USER,DEVELOPER,again@nexters.com\n"
+                + "test,password1212,taken,13,ROLE_USER,DEVELOPER,taken@nexters.com\n"
+                + "developer,password1212,dev,13,ROLE_USER,PLANNER,dev@nexters.com\n";
+
+        UserImportResponse response = userImportService.importUsers(admin, stream(csv), "text/csv; charset=UTF-8",
+                session.getSessionNumber());
+
+        then(response.getImportedCount()).isEqualTo(2);
+        then(response.getFailedCount()).isEqualTo(4);
+        then(response.getErrors()).extracting(UserImportError::getLine).containsExactly(4L, 5L, 7L, 6L);
+
+        User designer = userRepository.findUserById("designer").get();
+        then(designer.getRole()).isEqualTo(User.Role.ROLE_USER);
+        then(designer.getEmail()).isNull();
+        then(passwordHasher.matches("pass,word", designer.getPassword()).join()).isTrue();
+        then(sessionUserRepository.existsByIdSessionIdAndIdUuid(session.getSessionId(), designer.getUuid()))
+                .isTrue();
+        then(sessionUserRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void importUsers_Ndjson_ImportEveryBatch() throws Exception {
+        String ndjson = "{\"id\":\"originman\",\"password\":\"password1212\",\"name\":\"kiwon\","
+                + "\"nextersNumber\":13,\"position\":\"DEVELOPER\"}\n"
+                + "{\"id\":\"designer\",\"password\":\"password1212\",\"name\":\"dana\",\"position\":\"DESIGNER\"}\n"
+                + "not a json\n"
+                + "{\"id\":\"developer\",\"password\":\"password1212\",\"name\":\"dev\",\"position\":\"DEVELOPER\"}\n";
+
+        UserImportResponse response = userImportService.importUsers(admin, stream(ndjson), "application/x-ndjson",
+                null);
+
+        then(response.getImportedCount()).isEqualTo(3);
+        then(response.getErrors()).extracting(UserImportError::getLine).containsExactly(3L);
+        then(userRepository.findUserById("originman").get().getNextersNumber()).isEqualTo(13);
+        then(sessionUserRepository.count()).isEqualTo(0);
+    }
+
+    @Test
+    void importUsers_NotAdmin_ThrowException() {
+        User user = new User("originman", "password1212", "kiwon",
+                13, User.Role.ROLE_USER, User.Position.DEVELOPER, "originman@nexters.com");
+
+        thenThrownBy(() -> userImportService.importUsers(user, stream(""), "text/csv", null))
+                .isInstanceOf(UserForbiddenActionException.class);
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}